@@ -0,0 +1,41 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.AccountApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (레디스 없이 H2 만 사용, 웹 서버는 startWeb 에서만)
+ */
+final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return start(WebApplicationType.NONE, databaseName, properties);
+    }
+
+    // 임의 포트로 톰캣을 띄운다. (local.server.port 로 포트 확인)
+    static ConfigurableApplicationContext startWeb(String databaseName, String... properties) {
+        return start(WebApplicationType.SERVLET, databaseName, properties);
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                        String databaseName, String... properties) {
+        String[] defaults = {
+                "spring.datasource.url=jdbc:h2:mem:" + databaseName,
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "account.redis.enabled=false",
+                "account.lock.provider=local",
+                "logging.level.root=warn",
+                "server.port=0"
+        };
+
+        return new SpringApplicationBuilder(AccountApplication.class)
+                .web(webApplicationType)
+                .properties(defaults)
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,245 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.service.TransactionService;
+import com.zerobase.account.type.ErrorCode;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 핫 계좌 경합 부하 테스트 (임베디드 레디스 + H2, 컨트롤러와 같은 순서로 검증 -> 락 -> 잔액 사용)
+ * clients 개의 클라이언트가 duration 동안 쉬지 않고 잔액 사용을 요청한다.
+ * hot-ratio 는 요청이 0번 계좌 하나로 몰리는 비율 (0 : accounts 개 계좌에 고르게, 1 : 모두 한 계좌)
+ * 처리량, p50/p99/p999 지연 시간, ACCOUNT_TRANSACTION_LOCK 거절 비율을 출력하고,
+ * 끝난 뒤 계좌별 잔액과 성공 거래 수가 성공 응답 수와 맞는지 확인한다. (맞지 않으면 종료 코드 1)
+ * 잔액은 account.balance 로 검증하므로 account.balance.mode=account 로 실행한다. (ledger 모드의 balance 는 주기적 스냅샷)
+ * 클라이언트마다 seed 로 만든 난수를 쓰므로 같은 옵션이면 같은 계좌 순서로 요청한다.
+ * ./gradlew loadTest -PloadTestArgs="--clients=64 --accounts=100 --hot-ratio=0.9 --duration=30"
+ */
+public final class ContentionLoadTest {
+    private static final long USER_ID = 1L; // data.sql
+    private static final long INITIAL_BALANCE = 1_000_000_000_000L;
+    private static final long AMOUNT = 10L;
+
+    private final Options options;
+    private final TransactionService transactionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String[] accountNumbers;
+    private final AtomicLongArray successesByAccount; // 워밍업 포함, 잔액 검증용
+
+    private ContentionLoadTest(ConfigurableApplicationContext context, Options options) {
+        this.options = options;
+        this.transactionService = context.getBean(TransactionService.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.accountNumbers = new String[options.accounts()];
+        this.successesByAccount = new AtomicLongArray(options.accounts());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        boolean correct;
+        ConfigurableApplicationContext context = BenchmarkApplication.start("contention-load-test",
+                "account.redis.enabled=true",
+                "account.lock.provider=" + options.lockProvider(),
+                "account.balance.mode=account");
+        try {
+            ContentionLoadTest loadTest = new ContentionLoadTest(context, options);
+            loadTest.createAccounts();
+            Report report = loadTest.run();
+            report.print(System.out, options);
+            correct = loadTest.verifyBalances(System.out);
+        } finally {
+            context.close();
+        }
+
+        System.exit(correct ? 0 : 1);
+    }
+
+    private void createAccounts() {
+        List<Object[]> rows = new ArrayList<>(accountNumbers.length);
+        for (int i = 0; i < accountNumbers.length; i++) {
+            accountNumbers[i] = String.valueOf(1_000_000_000L + i);
+            rows.add(new Object[]{i + 1L, accountNumbers[i]});
+        }
+
+        jdbcTemplate.batchUpdate("insert into account(id, account_user_id, account_number, account_status, "
+                + "balance, version, registered_at, created_at, updated_at) "
+                + "values (?, " + USER_ID + ", ?, 'IN_USE', " + INITIAL_BALANCE + ", 0, now(), now(), now())",
+                rows);
+    }
+
+    private Report run() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(options.clients());
+        long startAt = System.nanoTime();
+        long measureFrom = startAt + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long endAt = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        try {
+            List<Future<ClientStats>> futures = new ArrayList<>(options.clients());
+            for (int i = 0; i < options.clients(); i++) {
+                Random random = new Random(options.seed() + i);
+                futures.add(executor.submit(() -> runClient(random, measureFrom, endAt)));
+            }
+
+            ClientStats total = new ClientStats();
+            for (Future<ClientStats> future : futures) {
+                total.merge(future.get());
+            }
+            return new Report(total, TimeUnit.NANOSECONDS.toMillis(endAt - measureFrom));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ClientStats runClient(Random random, long measureFrom, long endAt) {
+        ClientStats stats = new ClientStats();
+
+        long startedAt;
+        while ((startedAt = System.nanoTime()) < endAt) {
+            int account = random.nextDouble() < options.hotRatio() ? 0 : random.nextInt(accountNumbers.length);
+            UseBalance.Request request = new UseBalance.Request(USER_ID, accountNumbers[account], AMOUNT);
+
+            ErrorCode errorCode = null;
+            try {
+                transactionService.validateUseBalance(request);
+                transactionService.useBalance(request);
+                successesByAccount.incrementAndGet(account);
+            } catch (AccountException e) {
+                errorCode = e.getErrorCode();
+            }
+
+            if (startedAt >= measureFrom) {
+                stats.record(System.nanoTime() - startedAt, errorCode);
+            }
+        }
+
+        return stats;
+    }
+
+    // 성공 응답 수만큼만 잔액이 줄고, 성공 거래가 기록되었는지 확인한다. (lost update, 누락된 거래 내역)
+    private boolean verifyBalances(PrintStream out) {
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query("select id, balance from account",
+                rs -> {
+                    balances.put(rs.getLong("id"), rs.getLong("balance"));
+                });
+
+        Map<Long, Long> transactionCounts = new HashMap<>();
+        jdbcTemplate.query("select account_id, count(*) as cnt from transaction "
+                        + "where transaction_type = 'USE' and transaction_result_type = 'S' "
+                        + "group by account_id",
+                rs -> {
+                    transactionCounts.put(rs.getLong("account_id"), rs.getLong("cnt"));
+                });
+
+        int mismatches = 0;
+        for (int i = 0; i < accountNumbers.length; i++) {
+            long successes = successesByAccount.get(i);
+            long expectedBalance = INITIAL_BALANCE - AMOUNT * successes;
+            long balance = balances.getOrDefault(i + 1L, 0L);
+            long transactions = transactionCounts.getOrDefault(i + 1L, 0L);
+
+            if (balance != expectedBalance || transactions != successes) {
+                mismatches++;
+                out.printf("MISMATCH account=%s successes=%d balance=%d expected=%d transactions=%d%n",
+                        accountNumbers[i], successes, balance, expectedBalance, transactions);
+            }
+        }
+
+        out.printf("balance check       : %s (%d mismatched accounts)%n",
+                mismatches == 0 ? "OK" : "FAILED", mismatches);
+        return mismatches == 0;
+    }
+
+    /**
+     * --clients=64 --accounts=100 --hot-ratio=0.0 --duration=30 --warmup=5 --seed=42 --lock-provider=redis
+     */
+    record Options(int clients, int accounts, double hotRatio, int durationSeconds,
+                   int warmupSeconds, long seed, String lockProvider) {
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected --name=value but was " + arg);
+                }
+                values.put(pair[0], pair[1]);
+            }
+
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("clients", "64")),
+                    Integer.parseInt(values.getOrDefault("accounts", "100")),
+                    Double.parseDouble(values.getOrDefault("hot-ratio", "0.0")),
+                    Integer.parseInt(values.getOrDefault("duration", "30")),
+                    Integer.parseInt(values.getOrDefault("warmup", "5")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    values.getOrDefault("lock-provider", "redis"));
+        }
+    }
+
+    // 클라이언트 스레드 하나의 측정 결과 (스레드 안에서만 쓰고, 끝난 뒤 합친다)
+    private static final class ClientStats {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long successes;
+        private final Map<ErrorCode, Long> failures = new EnumMap<>(ErrorCode.class);
+
+        private void record(long latencyNanos, ErrorCode errorCode) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+
+            if (errorCode == null) {
+                successes++;
+            } else {
+                failures.merge(errorCode, 1L, Long::sum);
+            }
+        }
+
+        private void merge(ClientStats other) {
+            for (int i = 0; i < other.size; i++) {
+                if (size == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, Math.max(size * 2, size + other.size));
+                }
+                latencies[size++] = other.latencies[i];
+            }
+            successes += other.successes;
+            other.failures.forEach((errorCode, count) -> failures.merge(errorCode, count, Long::sum));
+        }
+    }
+
+    private record Report(ClientStats stats, long elapsedMillis) {
+        private void print(PrintStream out, Options options) {
+            long[] sorted = Arrays.copyOf(stats.latencies, stats.size);
+            Arrays.sort(sorted);
+            long requests = stats.size;
+            long lockRejected = stats.failures.getOrDefault(ErrorCode.ACCOUNT_TRANSACTION_LOCK, 0L);
+
+            out.println(options);
+            out.printf("requests            : %d (success %d)%n", requests, stats.successes);
+            out.printf("throughput          : %.1f req/s%n", requests * 1000.0 / elapsedMillis);
+            out.printf("latency p50/p99/p999: %.2f / %.2f / %.2f ms%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+            out.printf("lock rejected       : %d (%.2f%%)%n", lockRejected,
+                    requests == 0 ? 0.0 : lockRejected * 100.0 / requests);
+            stats.failures.forEach((errorCode, count) ->
+                    out.printf("failure %-20s: %d%n", errorCode, count));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
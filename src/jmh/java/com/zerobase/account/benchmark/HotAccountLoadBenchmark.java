@@ -0,0 +1,108 @@
+package com.zerobase.account.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 계좌에 잔액 사용 요청이 몰리는 동안 다른 API (GET /account) 의 응답 시간을 잰다.
+ * virtual=false 는 톰캣 스레드 풀 (200개) 이 락 대기로 고갈되는지, virtual=true 는 가상 스레드 모드에서 영향이 없는지 비교한다.
+ * virtual=true 는 JDK 21 이상에서만 기동되므로 기본 파라미터에서 빼고, JDK 21 로 실행할 때만 켠다.
+ * ./gradlew jmh -PjmhIncludes=HotAccountLoadBenchmark -PjmhVirtual
+ * 가상 스레드가 캐리어 스레드에 고정되면 (-Djdk.tracePinnedThreads=short) 그 스택이 표준 출력에 찍힌다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(4)
+public class HotAccountLoadBenchmark {
+    private static final String HOT_ACCOUNT_NUMBER = "1000000000";
+
+    @Param({"false"})
+    boolean virtual;
+
+    // 같은 계좌에 동시에 잔액 사용을 요청하는 클라이언트 수 (톰캣 기본 스레드 수보다 많게)
+    @Param({"400"})
+    int hotClients;
+
+    ConfigurableApplicationContext context;
+    HttpClient httpClient;
+    ExecutorService hotClientExecutor;
+    String baseUrl;
+
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.startWeb("hot-account-" + virtual,
+                "account.threads.virtual=" + virtual);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        context.getBean(JdbcTemplate.class)
+                .update("insert into account(id, account_user_id, account_number, account_status, "
+                        + "balance, version, registered_at, created_at, updated_at) "
+                        + "values (1, 1, ?, 'IN_USE', 9000000000000, 0, now(), now(), now())",
+                        HOT_ACCOUNT_NUMBER);
+
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        running = true;
+        hotClientExecutor = Executors.newFixedThreadPool(hotClients);
+        for (int i = 0; i < hotClients; i++) {
+            hotClientExecutor.execute(this::useBalanceLoop);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        hotClientExecutor.shutdownNow();
+        hotClientExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public int getAccounts() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/account?user_id=1"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void useBalanceLoop() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/transaction/use"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":1,\"accountNumber\":\""
+                        + HOT_ACCOUNT_NUMBER + "\",\"amount\":10}"))
+                .build();
+
+        while (running) {
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                // 타임아웃, 연결 실패도 부하로 보고 계속 보낸다.
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.aop.AccountLockProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 분산 락 lock + unlock 왕복 시간 (임베디드 레디스, account.lock.provider=redis)
+ * accounts=1 은 모든 스레드가 같은 락을 다투는 경우, 1000 은 거의 다투지 않는 경우
+ * ./gradlew jmh -PjmhIncludes=LockServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LockServiceBenchmark {
+    private static final long WAIT_TIME = 3000L;
+
+    @Param({"1", "1000"})
+    int accounts;
+
+    ConfigurableApplicationContext context;
+    AccountLockProvider lockService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("lock-service-" + accounts,
+                "account.redis.enabled=true",
+                "account.lock.provider=redis");
+        lockService = context.getBean(AccountLockProvider.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void lockAndUnlock() {
+        String accountNumber = String.valueOf(
+                1_000_000_000L + ThreadLocalRandom.current().nextInt(accounts));
+
+        lockService.lock(accountNumber, WAIT_TIME);
+        lockService.unlock(accountNumber);
+    }
+}
@@ -0,0 +1,42 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionDto -> UseBalance.Response 변환 비용 (스프링 컨텍스트 없음)
+ * ./gradlew jmh -PjmhIncludes=ResponseMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+    TransactionDto transactionDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionDto = TransactionDto.builder()
+                .accountNumber("1000000000")
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public UseBalance.Response useBalanceResponse() {
+        return UseBalance.Response.from(transactionDto);
+    }
+}
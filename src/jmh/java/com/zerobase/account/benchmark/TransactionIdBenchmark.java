@@ -0,0 +1,40 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.service.TimeOrderedTransactionIdGenerator;
+import com.zerobase.account.service.UuidTransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 ID 생성 비용 (time-ordered vs uuid, 스프링 컨텍스트 없음)
+ * 여러 스레드가 한 생성기를 같이 쓰는 경우도 보기 위해 4 스레드로 실행한다.
+ * ./gradlew jmh -PjmhIncludes=TransactionIdBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TransactionIdBenchmark {
+    TimeOrderedTransactionIdGenerator timeOrderedGenerator;
+    UuidTransactionIdGenerator uuidGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        timeOrderedGenerator = new TimeOrderedTransactionIdGenerator(0L);
+        uuidGenerator = new UuidTransactionIdGenerator();
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return timeOrderedGenerator.generate();
+    }
+
+    @Benchmark
+    public String uuid() {
+        return uuidGenerator.generate();
+    }
+}
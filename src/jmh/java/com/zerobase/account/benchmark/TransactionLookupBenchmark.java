@@ -0,0 +1,76 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.repository.TransactionRepository;
+import com.zerobase.account.service.TimeOrderedTransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 건수가 늘어나도 거래 ID 조회 시간이 일정한지 확인한다. (ux_transaction_transaction_id)
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionLookupBenchmark {
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    ConfigurableApplicationContext context;
+    TransactionRepository transactionRepository;
+    String[] transactionIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transaction-lookup-" + rows);
+        transactionRepository = context.getBean(TransactionRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into account(id, account_user_id, account_number, account_status, "
+                + "balance, version, registered_at, created_at, updated_at) "
+                + "values (1, 1, '1000000000', 'IN_USE', 0, 0, now(), now(), now())");
+
+        TimeOrderedTransactionIdGenerator transactionIdGenerator =
+                new TimeOrderedTransactionIdGenerator(0L);
+        transactionIds = new String[rows];
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < rows; i++) {
+            transactionIds[i] = transactionIdGenerator.generate();
+            batch.add(new Object[]{i + 1L, transactionIds[i], now});
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into transaction(id, transaction_type, "
+                        + "transaction_result_type, account_id, amount, balance_snapshot, "
+                        + "transaction_id, transacted_at, created_at, updated_at) "
+                        + "values (?, 'USE', 'S', 1, 1000, 0, ?, ?, now(), now())", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object findByTransactionId() {
+        return transactionRepository.findByTransactionId(
+                transactionIds[ThreadLocalRandom.current().nextInt(rows)]);
+    }
+}
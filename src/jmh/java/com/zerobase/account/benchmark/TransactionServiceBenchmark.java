@@ -0,0 +1,82 @@
+package com.zerobase.account.benchmark;
+
+import com.zerobase.account.dto.CancelBalance;
+import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 사용 / 취소 (락, 검증, 잔액 변경, 거래 저장까지) 한 건의 처리 시간 (H2, local 락)
+ * cancelBalance 는 취소할 거래가 필요하므로 사용 + 취소를 한 번에 잰다. (취소 시간 ≈ 두 결과의 차이)
+ * ./gradlew jmh -PjmhIncludes=TransactionServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+    private static final long USER_ID = 1L; // data.sql
+    private static final long AMOUNT = 10L;
+
+    // 요청을 나눠 받을 계좌 수
+    @Param({"1", "100"})
+    int accounts;
+
+    ConfigurableApplicationContext context;
+    TransactionService transactionService;
+    String[] accountNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transaction-service-" + accounts);
+        transactionService = context.getBean(TransactionService.class);
+
+        accountNumbers = new String[accounts];
+        List<Object[]> rows = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = String.valueOf(1_000_000_000L + i);
+            rows.add(new Object[]{i + 1L, accountNumbers[i]});
+        }
+
+        context.getBean(JdbcTemplate.class)
+                .batchUpdate("insert into account(id, account_user_id, account_number, account_status, "
+                        + "balance, version, registered_at, created_at, updated_at) "
+                        + "values (?, " + USER_ID + ", ?, 'IN_USE', 9000000000000, 0, now(), now(), now())",
+                        rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionDto useBalance() {
+        return transactionService.useBalance(
+                new UseBalance.Request(USER_ID, randomAccountNumber(), AMOUNT));
+    }
+
+    @Benchmark
+    public TransactionDto useAndCancelBalance() {
+        String accountNumber = randomAccountNumber();
+        TransactionDto used = transactionService.useBalance(
+                new UseBalance.Request(USER_ID, accountNumber, AMOUNT));
+
+        return transactionService.cancelBalance(
+                new CancelBalance.Request(used.getTransactionId(), accountNumber, AMOUNT));
+    }
+
+    private String randomAccountNumber() {
+        return accountNumbers[ThreadLocalRandom.current().nextInt(accounts)];
+    }
+}
@@ -7,5 +7,5 @@ import java.lang.annotation.*;
 @Documented
 @Inherited
 public @interface AccountLock {
-    long tryLockTime() default 5000L;
+    long tryLockTime() default 3000L; // 락 취득 대기 시간 (ms)
 }
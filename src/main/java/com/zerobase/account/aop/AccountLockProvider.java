@@ -0,0 +1,19 @@
+package com.zerobase.account.aop;
+
+/**
+ * {@link AccountLock} 이 사용하는 계좌 락 구현체
+ * account.lock.provider 설정으로 구현체를 선택한다.
+ * - redis : Redisson 분산 락
+ * - local : 단일 노드용 인메모리 락
+ * - database : 계좌 row 에 대한 SELECT ... FOR UPDATE
+ * - none : 락을 잡지 않음 (Account 의 @Version 낙관적 락 + 재시도만 사용)
+ * - shard : 구현체 없음, 락 대신 ShardedBalanceEngine 의 계좌별 단일 스레드에서 실행 (ShardRoutingAspect)
+ */
+public interface AccountLockProvider {
+    /**
+     * @param waitTime 락 취득 대기 시간 (ms), 시간 안에 취득하지 못하면 ACCOUNT_TRANSACTION_LOCK
+     */
+    void lock(String accountNumber, long waitTime);
+
+    void unlock(String accountNumber);
+}
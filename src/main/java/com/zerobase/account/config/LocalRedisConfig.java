@@ -3,11 +3,13 @@ package com.zerobase.account.config;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import redis.embedded.RedisServer;
 
 
 @Configuration
+@ConditionalOnProperty(prefix = "account.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class LocalRedisConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
@@ -0,0 +1,45 @@
+package com.zerobase.account.config;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * reactive 엔드포인트 설정 (account.reactive.enabled=true)
+ * JPA (JDBC) 호출은 블로킹이므로 커넥션 풀 크기에 맞춘 전용 스케줄러에서만 실행한다.
+ * 락 대기와 응답 대기는 스레드를 잡지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig {
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(
+            @Value("${account.reactive.jdbc-threads:10}") int jdbcThreads,
+            @Value("${account.reactive.jdbc-queue-capacity:10000}") int jdbcQueueCapacity) {
+        return Schedulers.newBoundedElastic(jdbcThreads, jdbcQueueCapacity, "account-jdbc");
+    }
+
+    /**
+     * 낙관적 락 충돌 재시도 (블로킹 엔드포인트의 OptimisticRetryAspect 와 같은 설정)
+     * 락 취득부터 다시 구독하므로 재시도마다 새 트랜잭션으로 계좌를 다시 읽는다. 대기는 스레드를 잡지 않는다.
+     */
+    @Bean
+    public Retry optimisticRetry(
+            @Value("${account.optimistic.max-attempts:3}") int maxAttempts,
+            @Value("${account.optimistic.backoff:20}") long backoff) {
+        return Retry.backoff(maxAttempts - 1, Duration.ofMillis(backoff))
+                .jitter(1.0)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) ->
+                        new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+    }
+}
@@ -0,0 +1,40 @@
+package com.zerobase.account.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드 (account.threads.virtual=true, JDK 21 이상에서 실행)
+ * 톰캣 요청을 요청마다 새 가상 스레드에서 처리한다. 락 대기, JDBC 호출 중에는 캐리어 스레드를 반납하므로
+ * 한 계좌에 요청이 몰려도 스레드 풀 (기본 200개) 이 고갈되어 다른 API 까지 멈추지 않는다.
+ * 락 구현체는 synchronized 대신 ReentrantLock / Condition 으로 대기하여 캐리어 스레드를 고정 (pinning) 하지 않는다.
+ * 계좌 목록, 거래 조회 캐시도 JDBC 조회를 ConcurrentHashMap.compute (synchronized) 밖에서 실행한다. (CacheLoader)
+ * 드라이버, 커넥션 풀, 하이버네이트 안쪽의 고정은 HotAccountLoadBenchmark (-Djdk.tracePinnedThreads=short) 로 확인한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.threads", name = "virtual", havingValue = "true")
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // Java 17 로 컴파일하므로 JDK 21 API 는 리플렉션으로 호출한다. (하위 JDK 에서는 기동 실패)
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "account.threads.virtual=true requires JDK 21 or later. current = "
+                            + Runtime.version(), e);
+        }
+    }
+}
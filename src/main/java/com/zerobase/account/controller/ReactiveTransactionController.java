@@ -0,0 +1,90 @@
+package com.zerobase.account.controller;
+
+import com.zerobase.account.dto.CancelBalance;
+import com.zerobase.account.dto.QueryTransactionResponse;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.service.FailedTransactionRecorder;
+import com.zerobase.account.service.ReactiveLockService;
+import com.zerobase.account.service.TransactionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 잔액 관련 reactive 컨트롤러 (account.reactive.enabled=true)
+ * 락은 Redisson reactive 락으로 기다리고, JPA 호출만 jdbcScheduler 에서 실행한다.
+ * 응답을 기다리는 동안 서블릿 스레드를 반납하므로 (비동기 요청 처리) 적은 스레드로 많은 요청을 동시에 처리한다.
+ * 1. 잔액 사용
+ * 2. 잔액 사용 취소
+ * 3. 거래 확인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/reactive")
+@ConditionalOnProperty(prefix = "account.reactive", name = "enabled", havingValue = "true")
+public class ReactiveTransactionController {
+    private static final long TRY_LOCK_TIME = 3000L; // 락 취득 대기 시간 (ms, @AccountLock 기본값과 동일)
+
+    private final TransactionService transactionService;
+    private final FailedTransactionRecorder failedTransactionRecorder;
+    private final ReactiveLockService reactiveLockService;
+    private final Scheduler jdbcScheduler;
+    private final Retry optimisticRetry;
+
+    @PostMapping("/transaction/use")
+    public Mono<UseBalance.Response> useBalance(@RequestBody @Valid UseBalance.Request request) {
+        return jdbcRun(() -> transactionService.validateUseBalance(request))
+                .then(withLock(request.getAccountNumber(),
+                        () -> transactionService.applyUseBalance(request)))
+                .map(UseBalance.Response::from)
+                .doOnError(AccountException.class, e -> {
+                    log.error("Failed to use balance. msg = {}", e.getMessage());
+                    failedTransactionRecorder.recordUse(request.getAccountNumber(), request.getAmount());
+                });
+    }
+
+    @PostMapping("/transaction/cancel")
+    public Mono<CancelBalance.Response> cancelBalance(@RequestBody @Valid CancelBalance.Request request) {
+        return jdbcRun(() -> transactionService.validateCancelBalance(request))
+                .then(withLock(request.getAccountNumber(),
+                        () -> transactionService.applyCancelBalance(request)))
+                .map(CancelBalance.Response::from)
+                .doOnError(AccountException.class, e -> {
+                    log.error("Failed to use balance. msg = {}", e.getMessage());
+                    failedTransactionRecorder.recordCancel(request.getAccountNumber(), request.getAmount());
+                });
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public Mono<QueryTransactionResponse> queryTransaction(@PathVariable String transactionId) {
+        return jdbc(() -> transactionService.queryTransaction(transactionId))
+                .map(QueryTransactionResponse::from);
+    }
+
+    // 락 취득 -> JPA 호출 -> 성공, 실패, 취소 모두 락 해제
+    // 낙관적 락 충돌이면 락을 놓고 처음부터 다시 시도한다. (블로킹 엔드포인트의 OptimisticRetryAspect 와 같은 순서)
+    private <T> Mono<T> withLock(String accountNumber, Callable<T> callable) {
+        return Mono.usingWhen(
+                        Mono.defer(() -> reactiveLockService.lock(accountNumber, TRY_LOCK_TIME)),
+                        lockId -> jdbc(callable),
+                        lockId -> reactiveLockService.unlock(accountNumber, lockId))
+                .retryWhen(optimisticRetry);
+    }
+
+    private <T> Mono<T> jdbc(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(jdbcScheduler);
+    }
+
+    private Mono<Void> jdbcRun(Runnable runnable) {
+        return Mono.fromRunnable(runnable).subscribeOn(jdbcScheduler).then();
+    }
+}
@@ -1,40 +1,62 @@
 package com.zerobase.account.controller;
 
-import com.zerobase.account.aop.AccountLock;
 import com.zerobase.account.dto.CancelBalance;
 import com.zerobase.account.dto.QueryTransactionResponse;
+import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.TransactionExport;
+import com.zerobase.account.dto.TransactionHistory;
 import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.dto.UseBalanceBatch;
 import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.service.FailedTransactionRecorder;
+import com.zerobase.account.service.TransactionExportService;
 import com.zerobase.account.service.TransactionService;
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 잔액 관련 컨트롤러
  * 1. 잔액 사용
  * 2. 잔액 사용 취소
  * 3. 거래 확인
+ * 4. 잔액 사용 일괄 처리
+ * 5. 계좌별 거래 내역
+ * 6. 거래 내역 내보내기
  */
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final FailedTransactionRecorder failedTransactionRecorder;
 
+    // 검증은 락 밖에서, 잔액 변경만 락 안에서 한다. (응답 생성, 실패 기록은 락 해제 이후)
     @PostMapping("/transaction/use")
-    @AccountLock
     public UseBalance.Response useBalance(@RequestBody @Valid UseBalance.Request request) {
         try {
-            return UseBalance.Response
-                    .from(transactionService.useBalance(request.getUserId(),
-                            request.getAccountNumber(),
-                            request.getAmount()));
+            transactionService.validateUseBalance(request);
+
+            return UseBalance.Response.from(transactionService.useBalance(request));
         } catch (AccountException e) {
             log.error("Failed to use balance. msg = {}", e.getMessage());
 
-            transactionService.saveFailedUseTransaction(
+            failedTransactionRecorder.recordUse(
                     request.getAccountNumber(),
                     request.getAmount());
 
@@ -42,18 +64,50 @@ public class TransactionController {
         }
     }
 
+    @PostMapping("/transaction/use/batch")
+    public UseBalanceBatch.Response useBalanceBatch(
+            @RequestBody @Valid UseBalanceBatch.Request request) {
+        // 계좌별로 묶어서 계좌당 한 번만 락을 잡는다. (계좌 안에서는 요청 순서 유지)
+        Map<String, List<UseBalance.Request>> itemsByAccount = request.getItems().stream()
+                .collect(Collectors.groupingBy(UseBalance.Request::getAccountNumber,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        Map<UseBalance.Request, UseBalanceBatch.Result> results = new IdentityHashMap<>();
+
+        itemsByAccount.forEach((accountNumber, items) -> {
+            try {
+                List<TransactionDto> transactionDtos = transactionService.useBalanceBatch(
+                        new UseBalanceBatch.AccountItems(accountNumber, items));
+
+                for (int i = 0; i < items.size(); i++) {
+                    results.put(items.get(i), UseBalanceBatch.Result.from(transactionDtos.get(i)));
+                }
+            } catch (AccountException e) {
+                log.error("Failed to use balance batch. accountNumber = {}, msg = {}",
+                        accountNumber, e.getMessage());
+
+                // 계좌 단위 실패 (락 취득 실패, 계좌 없음 등) 도 단건 API 와 같이 건마다 F 거래로 기록한다.
+                items.forEach(item -> {
+                    failedTransactionRecorder.recordUse(item.getAccountNumber(), item.getAmount());
+                    results.put(item, UseBalanceBatch.Result.failed(item, e.getErrorCode()));
+                });
+            }
+        });
+
+        return new UseBalanceBatch.Response(
+                request.getItems().stream().map(results::get).toList());
+    }
+
     @PostMapping("/transaction/cancel")
-    @AccountLock
     public CancelBalance.Response cancelBalance(@RequestBody @Valid CancelBalance.Request request) {
         try {
-            return CancelBalance.Response
-                    .from(transactionService.cancelBalance(request.getTransactionId(),
-                            request.getAccountNumber(),
-                            request.getAmount()));
+            transactionService.validateCancelBalance(request);
+
+            return CancelBalance.Response.from(transactionService.cancelBalance(request));
         } catch (AccountException e) {
             log.error("Failed to use balance. msg = {}", e.getMessage());
 
-            transactionService.saveFailedCancelTransaction(
+            failedTransactionRecorder.recordCancel(
                     request.getAccountNumber(),
                     request.getAmount());
 
@@ -65,4 +119,31 @@ public class TransactionController {
     public QueryTransactionResponse queryTransaction(@PathVariable String transactionId) {
         return QueryTransactionResponse.from(transactionService.queryTransaction(transactionId));
     }
+
+    // cursor 는 이전 응답의 nextCursor (첫 페이지는 생략)
+    @GetMapping("/account/{accountNumber}/transactions")
+    public TransactionHistory.Response getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(value = "transaction_type", required = false) TransactionType transactionType,
+            @RequestParam(value = "transaction_result", required = false) TransactionResultType transactionResultType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return transactionService.getTransactionHistory(
+                accountNumber, transactionType, transactionResultType, cursor, size);
+    }
+
+    // 기간 [from, to) 의 거래를 응답 스트림에 바로 쓴다. (account_number 생략 시 전체 계좌)
+    @GetMapping("/transaction/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "account_number", required = false) String accountNumber,
+            @RequestParam(value = "format", defaultValue = "NDJSON") TransactionExport.Format format) {
+        TransactionExport.Criteria criteria =
+                transactionExportService.getCriteria(from, to, accountNumber);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(outputStream -> transactionExportService.export(criteria, format, outputStream));
+    }
 }
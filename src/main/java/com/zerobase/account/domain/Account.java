@@ -22,7 +22,8 @@ public class Account extends BaseTimeEntity {
     @GeneratedValue
     private Long id;
 
-    @ManyToOne
+    // 기본은 지연 로딩, 계좌번호 조회 (AccountRepository.findByAccountNumber) 만 사용자를 조인하여 함께 읽는다.
+    @ManyToOne(fetch = FetchType.LAZY)
     private AccountUser accountUser;
 
     @Column(unique = true)
@@ -36,6 +37,11 @@ public class Account extends BaseTimeEntity {
     private LocalDateTime registeredAt; // 계좌 등록 일시
     private LocalDateTime unRegisteredAt; // 계좌 해지 일시
 
+    @Version
+    private Long version; // 낙관적 락 버전
+
+    private Long snapshotSeq; // ledger 모드에서 balance 에 반영된 마지막 거래 순번 (스냅샷)
+
     public void changeAccountForDelete() {
         this.accountStatus = AccountStatus.UNREGISTERED;
         this.unRegisteredAt = LocalDateTime.now();
@@ -1,5 +1,6 @@
 package com.zerobase.account.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -7,12 +8,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
+// 사용자 정보는 생성 이후 바뀌지 않으므로 2차 캐시에 두고 findById 시 SQL 없이 조회한다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "accountUser")
 public class AccountUser extends BaseTimeEntity {
     @Id
     @GeneratedValue
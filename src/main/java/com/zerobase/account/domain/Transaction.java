@@ -15,9 +15,21 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        // cancelBalance, queryTransaction 의 거래 ID 조회
+        @Index(name = "ux_transaction_transaction_id", columnList = "transaction_id", unique = true),
+        // 계좌별 거래 내역 조회 (keyset 페이지 : transacted_at, id 순서까지 인덱스로 해결)
+        @Index(name = "ix_transaction_account_id_transacted_at_id", columnList = "account_id, transacted_at, id"),
+        // 기간별 거래 내역 내보내기 (전체 계좌)
+        @Index(name = "ix_transaction_transacted_at_id", columnList = "transacted_at, id"),
+        // ledger 모드의 조건부 append (같은 순번은 한 번만 들어간다) 및 계좌별 최신 거래 조회
+        @Index(name = "ux_transaction_account_id_ledger_seq", columnList = "account_id, ledger_seq", unique = true)
+})
 public class Transaction extends BaseTimeEntity {
+    // 시퀀스를 allocationSize 개씩 미리 확보한다. (pooled-lo, 배치 insert 시 건마다 시퀀스를 조회하지 않음)
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -26,7 +38,8 @@ public class Transaction extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private TransactionResultType transactionResultType;
 
-    @ManyToOne
+    // 거래 검증은 FK (account.getId()) 만 사용하므로 계좌 엔티티를 함께 읽지 않는다.
+    @ManyToOne(fetch = FetchType.LAZY)
     private Account account;
 
     private Long amount;
@@ -36,4 +49,6 @@ public class Transaction extends BaseTimeEntity {
     private String transactionId;
 
     private LocalDateTime transactedAt; // 거래 일시
+
+    private Long ledgerSeq; // ledger 모드의 계좌별 거래 순번 (성공 거래만, 그 외에는 null)
 }
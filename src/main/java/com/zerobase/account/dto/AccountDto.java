@@ -28,4 +28,19 @@ public class AccountDto {
                 .unRegisteredAt(account.getUnRegisteredAt())
                 .build();
     }
+
+    public static AccountDto fromView(AccountView accountView) {
+        return fromView(accountView, accountView.getBalance());
+    }
+
+    // ledger 모드 : balance 컬럼은 스냅샷이므로 계산한 잔액을 넘긴다.
+    public static AccountDto fromView(AccountView accountView, Long balance) {
+        return AccountDto.builder()
+                .userId(accountView.getUserId())
+                .accountNumber(accountView.getAccountNumber())
+                .balance(balance)
+                .registeredAt(accountView.getRegisteredAt())
+                .unRegisteredAt(accountView.getUnRegisteredAt())
+                .build();
+    }
 }
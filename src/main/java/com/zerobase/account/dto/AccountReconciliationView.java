@@ -0,0 +1,18 @@
+package com.zerobase.account.dto;
+
+/**
+ * 잔액 대사용 projection (계좌별 성공 거래 집계, 거래가 있는 계좌만)
+ */
+public interface AccountReconciliationView {
+    Long getAccountId();
+
+    String getAccountNumber();
+
+    Long getBalance(); // 계좌에 저장된 잔액
+
+    Long getOpeningBalance(); // 첫 거래 전 잔액 (첫 거래의 balanceSnapshot - 변경액)
+
+    Long getDeltaSum(); // 변경액 합계 (USE : -amount, CANCEL : +amount)
+
+    Long getLatestSnapshot(); // 마지막 거래의 balanceSnapshot
+}
@@ -0,0 +1,22 @@
+package com.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 조회용 projection (엔티티를 만들지 않고 필요한 컬럼만 조회)
+ */
+public interface AccountView {
+    Long getId();
+
+    Long getUserId();
+
+    String getAccountNumber();
+
+    Long getBalance();
+
+    LocalDateTime getRegisteredAt();
+
+    LocalDateTime getUnRegisteredAt();
+
+    Long getSnapshotSeq(); // ledger 모드에서 balance 에 반영된 마지막 거래 순번
+}
@@ -0,0 +1,12 @@
+package com.zerobase.account.dto;
+
+/**
+ * ledger 스냅샷 갱신용 projection (거래 id 범위에 새 거래가 있는 계좌별 가장 큰 순번의 거래)
+ */
+public interface LedgerHeadView {
+    Long getAccountId();
+
+    Long getLedgerSeq();
+
+    Long getBalanceSnapshot(); // 그 순번의 거래 후 잔액
+}
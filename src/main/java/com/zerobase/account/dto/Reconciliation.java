@@ -0,0 +1,33 @@
+package com.zerobase.account.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Reconciliation {
+    public enum Type {
+        BALANCE, // 계좌 잔액 != 마지막 거래의 balanceSnapshot
+        CHAIN // 첫 거래 전 잔액 + 변경액 합계 != 마지막 거래의 balanceSnapshot (스냅샷 사이에 빠진 변경이 있음)
+    }
+
+    public record Mismatch(Long accountId, String accountNumber, Type type,
+                           long expected, long actual) {
+    }
+
+    /**
+     * @param checkedAccounts 대사한 계좌 수
+     * @param mismatchCount   불일치 건수 (mismatches 는 최대 개수까지만 보관)
+     */
+    public record Result(long checkedAccounts, long mismatchCount, List<Mismatch> mismatches) {
+        public static final Result EMPTY = new Result(0, 0, List.of());
+
+        public Result merge(Result other, int maxMismatches) {
+            List<Mismatch> merged = new ArrayList<>(mismatches);
+            other.mismatches.stream()
+                    .limit(Math.max(0, maxMismatches - merged.size()))
+                    .forEach(merged::add);
+
+            return new Result(checkedAccounts + other.checkedAccounts,
+                    mismatchCount + other.mismatchCount, merged);
+        }
+    }
+}
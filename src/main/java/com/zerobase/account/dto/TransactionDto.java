@@ -1,6 +1,7 @@
 package com.zerobase.account.dto;
 
 import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.type.ErrorCode;
 import com.zerobase.account.type.TransactionResultType;
 import com.zerobase.account.type.TransactionType;
 import lombok.AllArgsConstructor;
@@ -22,8 +23,13 @@ public class TransactionDto {
     private Long balanceSnapshot;
     private String transactionId;
     private LocalDateTime transactedAt;
+    private ErrorCode errorCode; // 실패 거래 사유
 
     public static TransactionDto fromEntity(Transaction transaction) {
+        return fromEntity(transaction, null);
+    }
+
+    public static TransactionDto fromEntity(Transaction transaction, ErrorCode errorCode) {
         return TransactionDto.builder()
                 .accountNumber(transaction.getAccount().getAccountNumber())
                 .transactionType(transaction.getTransactionType())
@@ -32,6 +38,19 @@ public class TransactionDto {
                 .balanceSnapshot(transaction.getBalanceSnapshot())
                 .transactionId(transaction.getTransactionId())
                 .transactedAt(transaction.getTransactedAt())
+                .errorCode(errorCode)
+                .build();
+    }
+
+    public static TransactionDto fromView(TransactionView transactionView) {
+        return TransactionDto.builder()
+                .accountNumber(transactionView.getAccountNumber())
+                .transactionType(transactionView.getTransactionType())
+                .transactionResultType(transactionView.getTransactionResultType())
+                .amount(transactionView.getAmount())
+                .balanceSnapshot(transactionView.getBalanceSnapshot())
+                .transactionId(transactionView.getTransactionId())
+                .transactedAt(transactionView.getTransactedAt())
                 .build();
     }
 }
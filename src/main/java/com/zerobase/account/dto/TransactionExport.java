@@ -0,0 +1,70 @@
+package com.zerobase.account.dto;
+
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class TransactionExport {
+    public static final String CSV_HEADER =
+            "accountNumber,transactionType,transactionResult,transactionId,amount,balanceSnapshot,transactedAt";
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson"), // 한 줄에 거래 하나 (JSON)
+        CSV("text/csv");
+
+        private final String contentType;
+    }
+
+    /**
+     * 내보낼 범위 : [from, to) 거래 일시, accountId 가 null 이면 전체 계좌
+     */
+    public record Criteria(LocalDateTime from, LocalDateTime to, Long accountId) {
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private String accountNumber;
+        private TransactionType transactionType;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+        private Long balanceSnapshot; // 거래 후 계좌 잔액
+        private LocalDateTime transactedAt;
+
+        public static Row from(Transaction transaction) {
+            return Row.builder()
+                    .accountNumber(transaction.getAccount().getAccountNumber())
+                    .transactionType(transaction.getTransactionType())
+                    .transactionResult(transaction.getTransactionResultType())
+                    .transactionId(transaction.getTransactionId())
+                    .amount(transaction.getAmount())
+                    .balanceSnapshot(transaction.getBalanceSnapshot())
+                    .transactedAt(transaction.getTransactedAt())
+                    .build();
+        }
+
+        // 모든 값이 숫자, enum, 영숫자 ID 라서 따옴표 처리가 필요 없다.
+        public String toCsv() {
+            return String.join(",",
+                    accountNumber,
+                    String.valueOf(transactionType),
+                    String.valueOf(transactionResult),
+                    transactionId,
+                    String.valueOf(amount),
+                    String.valueOf(balanceSnapshot),
+                    String.valueOf(transactedAt));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.zerobase.account.dto;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static com.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+
+public class TransactionHistory {
+    /**
+     * 다음 페이지 커서 : 이전 페이지 마지막 거래의 (transactedAt, id)
+     * 클라이언트에는 base64url 문자열로 주고받는다. (형식에 의존하지 않도록)
+     */
+    public record Cursor(LocalDateTime transactedAt, Long id) {
+        private static final String DELIMITER = "_";
+
+        public static Cursor from(TransactionHistoryView transactionHistoryView) {
+            return new Cursor(transactionHistoryView.getTransactedAt(),
+                    transactionHistoryView.getId());
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                        StandardCharsets.UTF_8);
+                int delimiter = decoded.lastIndexOf(DELIMITER);
+
+                return new Cursor(LocalDateTime.parse(decoded.substring(0, delimiter)),
+                        Long.parseLong(decoded.substring(delimiter + 1)));
+            } catch (RuntimeException e) {
+                throw new AccountException(INVALID_REQUEST);
+            }
+        }
+
+        public String encode() {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (transactedAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private String accountNumber;
+        private List<Item> transactions; // 최신 거래부터
+        private String nextCursor; // 마지막 페이지이면 null
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private TransactionType transactionType;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+        private Long balanceSnapshot; // 거래 후 계좌 잔액
+        private LocalDateTime transactedAt;
+
+        public static Item from(TransactionHistoryView transactionHistoryView) {
+            return Item.builder()
+                    .transactionType(transactionHistoryView.getTransactionType())
+                    .transactionResult(transactionHistoryView.getTransactionResultType())
+                    .transactionId(transactionHistoryView.getTransactionId())
+                    .amount(transactionHistoryView.getAmount())
+                    .balanceSnapshot(transactionHistoryView.getBalanceSnapshot())
+                    .transactedAt(transactionHistoryView.getTransactedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.zerobase.account.dto;
+
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 거래 내역 조회용 projection (다음 페이지 커서를 만들기 위해 id 포함, 계좌 조인 없음)
+ */
+public interface TransactionHistoryView {
+    Long getId();
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    Long getAmount();
+
+    Long getBalanceSnapshot();
+
+    String getTransactionId();
+
+    LocalDateTime getTransactedAt();
+}
@@ -0,0 +1,25 @@
+package com.zerobase.account.dto;
+
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 조회용 projection (엔티티를 만들지 않고 필요한 컬럼만 조회)
+ */
+public interface TransactionView {
+    String getAccountNumber();
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    Long getAmount();
+
+    Long getBalanceSnapshot();
+
+    String getTransactionId();
+
+    LocalDateTime getTransactedAt();
+}
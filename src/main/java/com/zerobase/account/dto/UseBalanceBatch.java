@@ -0,0 +1,78 @@
+package com.zerobase.account.dto;
+
+import com.zerobase.account.aop.AccountLockIdInterface;
+import com.zerobase.account.type.ErrorCode;
+import com.zerobase.account.type.TransactionResultType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class UseBalanceBatch {
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotEmpty
+        @Size(max = 1000)
+        private List<@Valid UseBalance.Request> items;
+    }
+
+    /**
+     * 한 계좌에 대한 잔액 사용 요청 묶음 (계좌당 한 번만 락을 잡기 위한 단위)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AccountItems implements AccountLockIdInterface {
+        private String accountNumber;
+        private List<UseBalance.Request> items;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<Result> results; // 요청 items 와 같은 순서
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private String accountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private Long amount;
+        private LocalDateTime transactedAt;
+        private ErrorCode errorCode; // 실패 사유
+
+        public static Result from(TransactionDto transactionDto) {
+            return Result.builder()
+                    .accountNumber(transactionDto.getAccountNumber())
+                    .transactionResult(transactionDto.getTransactionResultType())
+                    .transactionId(transactionDto.getTransactionId())
+                    .amount(transactionDto.getAmount())
+                    .transactedAt(transactionDto.getTransactedAt())
+                    .errorCode(transactionDto.getErrorCode())
+                    .build();
+        }
+
+        // 계좌 단위로 실패하여 거래가 기록되지 않은 경우
+        public static Result failed(UseBalance.Request item, ErrorCode errorCode) {
+            return Result.builder()
+                    .accountNumber(item.getAccountNumber())
+                    .transactionResult(TransactionResultType.F)
+                    .amount(item.getAmount())
+                    .errorCode(errorCode)
+                    .build();
+        }
+    }
+}
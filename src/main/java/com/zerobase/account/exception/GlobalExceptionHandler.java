@@ -3,6 +3,7 @@ package com.zerobase.account.exception;
 import com.zerobase.account.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,6 +37,13 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(KEY_CONFLICT, KEY_CONFLICT.getDescription());
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class) // 재시도 없이 동시 수정에 진 경우 (ledger append 중 계좌 해지 등)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.error("OptimisticLockingFailureException is occurred.", e);
+        return new ErrorResponse(ACCOUNT_TRANSACTION_LOCK, ACCOUNT_TRANSACTION_LOCK.getDescription());
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class) // 예상치 못한 모든 에러
     public ErrorResponse handleException(Exception e) {
@@ -2,7 +2,15 @@ package com.zerobase.account.repository;
 
 import com.zerobase.account.domain.Account;
 import com.zerobase.account.domain.AccountUser;
+import com.zerobase.account.dto.AccountReconciliationView;
+import com.zerobase.account.dto.AccountView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,11 +18,51 @@ import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
-    Optional<Account> findFirstByOrderByIdDesc();
-
     Integer countByAccountUser(AccountUser accountUser);
 
+    // 사용/취소/해지 시 소유주 검증에 쓰는 사용자를 같은 select 에서 조인하여 읽는다. (N+1 방지)
+    @EntityGraph(attributePaths = "accountUser")
     Optional<Account> findByAccountNumber(String accountNumber);
 
-    List<Account> findByAccountUser(AccountUser accountUser);
+    @Lock(LockModeType.PESSIMISTIC_WRITE) // SELECT ... FOR UPDATE
+    Optional<Account> findForUpdateByAccountNumber(String accountNumber);
+
+    // 계좌 목록 조회용 (account_user 는 FK 만 사용하고 조인하지 않음)
+    @Query("select a.id as id, a.accountUser.id as userId, a.accountNumber as accountNumber, "
+            + "a.balance as balance, a.registeredAt as registeredAt, "
+            + "a.unRegisteredAt as unRegisteredAt, a.snapshotSeq as snapshotSeq "
+            + "from Account a where a.accountUser.id = :userId")
+    List<AccountView> findViewsByAccountUserId(@Param("userId") Long userId);
+
+    // ledger 모드 스냅샷 : 더 최신 순번일 때만 balance, snapshot_seq 를 바꾼다. (version 은 올리지 않음)
+    @Modifying
+    @Query("update Account a set a.balance = :balance, a.snapshotSeq = :seq "
+            + "where a.id = :id and (a.snapshotSeq is null or a.snapshotSeq < :seq)")
+    int updateLedgerSnapshot(@Param("id") Long id,
+                             @Param("balance") Long balance,
+                             @Param("seq") Long seq);
+
+    @Query("select min(a.id) from Account a")
+    Long findMinId();
+
+    @Query("select max(a.id) from Account a")
+    Long findMaxId();
+
+    // 잔액 대사 : id 범위의 계좌별 성공 거래를 한 번에 집계한다. (계좌 id 범위로 거래 인덱스를 탐색)
+    // 첫/마지막 거래는 거래 일시, id 순서 (ix_transaction_account_id_transacted_at_id)
+    @Query(value = "with s as ("
+            + "select t.account_id, t.balance_snapshot, "
+            + "case when t.transaction_type = 'USE' then -t.amount else t.amount end as delta, "
+            + "row_number() over (partition by t.account_id order by t.transacted_at, t.id) as first_rank, "
+            + "row_number() over (partition by t.account_id order by t.transacted_at desc, t.id desc) as last_rank "
+            + "from transaction t "
+            + "where t.account_id between :fromId and :toId and t.transaction_result_type = 'S') "
+            + "select a.id as accountId, a.account_number as accountNumber, a.balance as balance, "
+            + "max(case when s.first_rank = 1 then s.balance_snapshot - s.delta end) as openingBalance, "
+            + "sum(s.delta) as deltaSum, "
+            + "max(case when s.last_rank = 1 then s.balance_snapshot end) as latestSnapshot "
+            + "from account a join s on s.account_id = a.id "
+            + "group by a.id, a.account_number, a.balance", nativeQuery = true)
+    List<AccountReconciliationView> findReconciliationViews(@Param("fromId") Long fromId,
+                                                            @Param("toId") Long toId);
 }
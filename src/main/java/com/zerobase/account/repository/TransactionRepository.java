@@ -1,12 +1,115 @@
 package com.zerobase.account.repository;
 
 import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.LedgerHeadView;
+import com.zerobase.account.dto.TransactionHistoryView;
+import com.zerobase.account.dto.TransactionView;
+import com.zerobase.account.type.TransactionResultType;
+import com.zerobase.account.type.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    int EXPORT_FETCH_SIZE = 1000;
+
     Optional<Transaction> findByTransactionId(String transactionId);
+
+    // ledger 모드의 계좌별 최신 거래 (ux_transaction_account_id_ledger_seq 역순 조회)
+    Optional<Transaction> findFirstByAccountIdAndLedgerSeqNotNullOrderByLedgerSeqDesc(Long accountId);
+
+    @Query("select max(t.id) from Transaction t")
+    Long findMaxId();
+
+    // ledger 스냅샷 갱신 : 거래 id 범위 (fromId, toId] 에 새 거래가 있는 계좌만, 계좌별 최대 순번을 한 번 집계해서
+    // 그 순번의 거래 (ux_transaction_account_id_ledger_seq) 와 조인한다. (id 범위는 PK 로 탐색)
+    @Query(value = "select h.account_id as accountId, h.ledger_seq as ledgerSeq, "
+            + "h.balance_snapshot as balanceSnapshot "
+            + "from (select t.account_id, max(t.ledger_seq) as ledger_seq from transaction t "
+            + "where t.id > :fromId and t.id <= :toId and t.ledger_seq is not null "
+            + "group by t.account_id) m "
+            + "join transaction h on h.account_id = m.account_id and h.ledger_seq = m.ledger_seq",
+            nativeQuery = true)
+    List<LedgerHeadView> findLedgerHeads(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 거래 조회 응답에 필요한 컬럼만 account 와 조인하여 조회 (account_user 조인 없음)
+    @Query("select a.accountNumber as accountNumber, t.transactionType as transactionType, "
+            + "t.transactionResultType as transactionResultType, t.amount as amount, "
+            + "t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId, "
+            + "t.transactedAt as transactedAt "
+            + "from Transaction t join t.account a "
+            + "where t.transactionId = :transactionId")
+    Optional<TransactionView> findViewByTransactionId(@Param("transactionId") String transactionId);
+
+    // 계좌별 거래 내역 첫 페이지 (ix_transaction_account_id_transacted_at_id 역순 조회, count 쿼리 없음)
+    @Query("select t.id as id, t.transactionType as transactionType, "
+            + "t.transactionResultType as transactionResultType, t.amount as amount, "
+            + "t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId, "
+            + "t.transactedAt as transactedAt "
+            + "from Transaction t "
+            + "where t.account.id = :accountId "
+            + "and (:transactionType is null or t.transactionType = :transactionType) "
+            + "and (:transactionResultType is null or t.transactionResultType = :transactionResultType) "
+            + "order by t.transactedAt desc, t.id desc")
+    List<TransactionHistoryView> findHistory(
+            @Param("accountId") Long accountId,
+            @Param("transactionType") TransactionType transactionType,
+            @Param("transactionResultType") TransactionResultType transactionResultType,
+            Pageable pageable);
+
+    // 다음 페이지 : OFFSET 대신 이전 페이지 마지막 거래 (transactedAt, id) 다음부터 인덱스를 탐색한다. (keyset)
+    @Query("select t.id as id, t.transactionType as transactionType, "
+            + "t.transactionResultType as transactionResultType, t.amount as amount, "
+            + "t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId, "
+            + "t.transactedAt as transactedAt "
+            + "from Transaction t "
+            + "where t.account.id = :accountId "
+            + "and (t.transactedAt < :transactedAt "
+            + "or (t.transactedAt = :transactedAt and t.id < :id)) "
+            + "and (:transactionType is null or t.transactionType = :transactionType) "
+            + "and (:transactionResultType is null or t.transactionResultType = :transactionResultType) "
+            + "order by t.transactedAt desc, t.id desc")
+    List<TransactionHistoryView> findHistoryAfter(
+            @Param("accountId") Long accountId,
+            @Param("transactedAt") LocalDateTime transactedAt,
+            @Param("id") Long id,
+            @Param("transactionType") TransactionType transactionType,
+            @Param("transactionResultType") TransactionResultType transactionResultType,
+            Pageable pageable);
+
+    /**
+     * 거래 내역 내보내기 (forward-only 스트림, 호출자의 트랜잭션 안에서 소비하고 닫아야 한다)
+     * fetch size 만큼씩 JDBC 커서로 읽고, 읽기 전용이라 변경 감지용 스냅샷을 만들지 않는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select t from Transaction t join fetch t.account "
+            + "where t.transactedAt >= :from and t.transactedAt < :to "
+            + "order by t.transactedAt, t.id")
+    Stream<Transaction> streamByTransactedAt(@Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // 한 계좌의 거래 내역 내보내기 (ix_transaction_account_id_transacted_at_id 순서대로 조회)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select t from Transaction t join fetch t.account "
+            + "where t.account.id = :accountId "
+            + "and t.transactedAt >= :from and t.transactedAt < :to "
+            + "order by t.transactedAt, t.id")
+    Stream<Transaction> streamByAccountIdAndTransactedAt(@Param("accountId") Long accountId,
+                                                         @Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
 }
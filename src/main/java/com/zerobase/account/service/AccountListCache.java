@@ -0,0 +1,120 @@
+package com.zerobase.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.account.dto.AccountDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 계좌 목록 캐시
+ * 계좌 생성/해지, 잔액 사용/취소 시 해당 사용자의 목록을 커밋 이후에 무효화한다.
+ * broadcast 를 켜면 무효화 메시지를 레디스 pub/sub 으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+public class AccountListCache implements MeterBinder {
+    private static final String CACHE_NAME = "accountList";
+    private static final String INVALIDATION_TOPIC = "account-list-invalidation";
+
+    private final AsyncCache<Long, List<AccountDto>> cache;
+    private final ObjectProvider<RedissonClient> redissonClientProvider;
+    private final boolean broadcast;
+
+    private RTopic invalidationTopic;
+
+    @Autowired
+    public AccountListCache(
+            @Value("${account.cache.account-list.maximum-size:10000}") long maximumSize,
+            @Value("${account.cache.account-list.expire-after-write:60000}") long expireAfterWrite,
+            @Value("${account.cache.account-list.broadcast:false}") boolean broadcast,
+            ObjectProvider<RedissonClient> redissonClientProvider) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .buildAsync();
+        this.broadcast = broadcast;
+        this.redissonClientProvider = redissonClientProvider;
+    }
+
+    // 단일 노드용 (테스트)
+    AccountListCache(long maximumSize, long expireAfterWrite) {
+        this(maximumSize, expireAfterWrite, false, null);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!broadcast) {
+            return;
+        }
+
+        RedissonClient redissonClient = redissonClientProvider.getIfAvailable();
+        if (redissonClient == null) {
+            log.warn("account list cache broadcast is enabled but redis is not configured");
+            return;
+        }
+
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, LongCodec.INSTANCE);
+        invalidationTopic.addListener(Long.class, (channel, userId) -> cache.synchronous().invalidate(userId));
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해서 캐싱한다. (조회는 호출 스레드에서, 캐시 잠금 밖에서 실행)
+     * 조회 도중 무효화되면 조회 결과를 캐시에 남기지 않으므로 오래된 목록이 남지 않는다.
+     */
+    public List<AccountDto> get(Long userId, Supplier<List<AccountDto>> loader) {
+        return CacheLoader.get(cache, userId, loader);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 무효화한다. (커밋 전에 지우면 다른 요청이 이전 값을 다시 캐싱할 수 있음)
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(Long userId) {
+        cache.synchronous().invalidate(userId);
+
+        if (invalidationTopic != null) {
+            try {
+                invalidationTopic.publish(userId);
+            } catch (Exception e) {
+                // 다른 노드는 TTL 이 지나면 갱신된다.
+                log.error("Failed to publish account list invalidation. userId = {}", userId, e);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), CACHE_NAME);
+    }
+}
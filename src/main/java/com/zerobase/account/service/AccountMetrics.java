@@ -0,0 +1,129 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import com.zerobase.account.type.TransactionResultType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락, 요청 처리 지표 (/actuator/prometheus 로 노출)
+ * 락 지표는 provider (account.lock.provider) 태그로 구분한다.
+ * 타이머는 히스토그램을 함께 내보내므로 Prometheus 에서 histogram_quantile 로 p99 등을 계산할 수 있다.
+ */
+@Component
+public class AccountMetrics {
+    private static final String NO_ERROR = "NONE";
+    private static final String CANCELLED = "CANCELLED";
+
+    private final MeterRegistry registry;
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Counter lockFailures;
+    private final Counter redisErrors;
+    private final Map<MeterKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> requestItemCounters = new ConcurrentHashMap<>();
+
+    public AccountMetrics(MeterRegistry registry,
+                          @Value("${account.lock.provider:redis}") String lockProvider) {
+        this.registry = registry;
+        this.lockWait = Timer.builder("account.lock.wait")
+                .description("락을 취득할 때까지 기다린 시간")
+                .tag("provider", lockProvider)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.lockHold = Timer.builder("account.lock.hold")
+                .description("락을 취득한 뒤 해제할 때까지 걸린 시간")
+                .tag("provider", lockProvider)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.lockFailures = Counter.builder("account.lock.failures")
+                .description("락 취득 실패 수 (대기 시간 초과 등)")
+                .tag("provider", lockProvider)
+                .register(registry);
+        this.redisErrors = Counter.builder("account.lock.redis.errors")
+                .description("레디스 오류 수 (락 없이 진행된 요청 포함)")
+                .register(registry);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockFailure() {
+        lockFailures.increment();
+    }
+
+    public void recordRedisError() {
+        redisErrors.increment();
+    }
+
+    /**
+     * 엔드포인트별 처리 시간. error 가 없으면 result=S, 있으면 result=F 와 ErrorCode 태그를 붙인다.
+     * (AccountException 이 아닌 예외는 INTERNAL_SERVER_ERROR)
+     */
+    public void recordRequest(String endpoint, long nanos, Throwable error) {
+        recordRequestTimer(endpoint, nanos, error == null ? NO_ERROR : getErrorCode(error).name());
+    }
+
+    /**
+     * 끝나기 전에 취소된 요청 (reactive 구독 취소, 클라이언트 연결 끊김 등) 은 result=F, error=CANCELLED 로 기록한다.
+     */
+    public void recordRequestCancelled(String endpoint, long nanos) {
+        recordRequestTimer(endpoint, nanos, CANCELLED);
+    }
+
+    /**
+     * 일괄 요청 (잔액 사용 batch) 의 건별 결과. 요청은 성공해도 건마다 실패 사유가 다를 수 있다.
+     */
+    public void recordRequestItem(String endpoint, ErrorCode errorCode) {
+        requestItemCounters.computeIfAbsent(
+                        new MeterKey(endpoint, errorCode == null ? NO_ERROR : errorCode.name()),
+                        key -> Counter.builder("account.request.items")
+                                .description("일괄 요청의 건별 처리 결과 수")
+                                .tags(resultTags(key))
+                                .register(registry))
+                .increment();
+    }
+
+    // 요청마다 builder 로 미터를 다시 찾지 않도록 (endpoint, error) 별로 한 번만 등록해 둔다.
+    private void recordRequestTimer(String endpoint, long nanos, String error) {
+        requestTimers.computeIfAbsent(new MeterKey(endpoint, error),
+                        key -> Timer.builder("account.request")
+                                .description("엔드포인트별 처리 시간")
+                                .tags(resultTags(key))
+                                .publishPercentileHistogram()
+                                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Tags resultTags(MeterKey key) {
+        return Tags.of(
+                "endpoint", key.endpoint(),
+                "result", NO_ERROR.equals(key.error())
+                        ? TransactionResultType.S.name()
+                        : TransactionResultType.F.name(),
+                "error", key.error());
+    }
+
+    private static ErrorCode getErrorCode(Throwable error) {
+        return error instanceof AccountException accountException
+                ? accountException.getErrorCode()
+                : ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private record MeterKey(String endpoint, String error) {
+    }
+}
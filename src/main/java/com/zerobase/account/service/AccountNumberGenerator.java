@@ -0,0 +1,101 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.zerobase.account.type.ErrorCode.ACCOUNT_NUMBER_EXHAUSTED;
+
+/**
+ * 계좌번호 발급기 (hi-lo)
+ * account_number_seq 에서 블록 번호(hi)를 받아 blockSize 개의 10자리 계좌번호를 미리 확보하고,
+ * 블록 안에서는 AtomicLong 으로 락 없이 발급한다. 블록이 소진될 때만 시퀀스를 조회한다.
+ * 시퀀스 조회 SQL 은 하이버네이트 dialect 가 만든다. (시퀀스를 지원하지 않는 DB 면 기동 시 실패)
+ */
+@Component
+public class AccountNumberGenerator {
+    private static final long FIRST_ACCOUNT_NUMBER = 1_000_000_000L;
+    private static final long LAST_ACCOUNT_NUMBER = 9_999_999_999L;
+    static final String SEQUENCE_NAME = "account_number_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextBlockQuery;
+    private final int blockSize;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = new Block(0, 0);
+
+    @Autowired
+    public AccountNumberGenerator(JdbcTemplate jdbcTemplate,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${account.number.block-size:100}") int blockSize) {
+        this(jdbcTemplate, nextBlockQuery(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect()), blockSize);
+    }
+
+    AccountNumberGenerator(JdbcTemplate jdbcTemplate, String nextBlockQuery, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextBlockQuery = nextBlockQuery;
+        this.blockSize = blockSize;
+    }
+
+    // H2 : select next value for ..., PostgreSQL : select nextval('...'), Oracle : select ....nextval from dual
+    static String nextBlockQuery(Dialect dialect) {
+        return dialect.getSequenceSupport().getSequenceNextValString(SEQUENCE_NAME);
+    }
+
+    public String next() {
+        while (true) {
+            Block current = block;
+            long accountNumber = current.next();
+            if (accountNumber >= 0) {
+                return String.valueOf(accountNumber);
+            }
+            refill(current);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            // 다른 스레드가 이미 새 블록을 받아온 경우
+            if (block != exhausted) {
+                return;
+            }
+
+            Long hi = jdbcTemplate.queryForObject(nextBlockQuery, Long.class);
+            long start = FIRST_ACCOUNT_NUMBER + (hi - 1) * blockSize;
+            if (start + blockSize - 1 > LAST_ACCOUNT_NUMBER) {
+                throw new AccountException(ACCOUNT_NUMBER_EXHAUSTED);
+            }
+
+            block = new Block(start, start + blockSize);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end; // 미포함
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        // 소진되었으면 -1
+        private long next() {
+            long accountNumber = next.getAndIncrement();
+            return accountNumber < end ? accountNumber : -1;
+        }
+    }
+}
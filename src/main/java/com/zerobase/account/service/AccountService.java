@@ -2,10 +2,13 @@ package com.zerobase.account.service;
 
 import com.zerobase.account.domain.Account;
 import com.zerobase.account.domain.AccountUser;
+import com.zerobase.account.domain.Transaction;
 import com.zerobase.account.dto.AccountDto;
+import com.zerobase.account.dto.AccountView;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.repository.AccountRepository;
 import com.zerobase.account.repository.AccountUserRepository;
+import com.zerobase.account.service.LedgerBalanceService.LedgerBalance;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +20,8 @@ import java.util.Objects;
 import static com.zerobase.account.type.AccountStatus.IN_USE;
 import static com.zerobase.account.type.AccountStatus.UNREGISTERED;
 import static com.zerobase.account.type.ErrorCode.*;
+import static com.zerobase.account.type.TransactionResultType.S;
+import static com.zerobase.account.type.TransactionType.CLOSE;
 
 
 @Service
@@ -25,7 +30,10 @@ import static com.zerobase.account.type.ErrorCode.*;
 public class AccountService {
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
-    private static final String DEFAULT_ACCOUNT_NUMBER = "1000000000";
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final AccountListCache accountListCache;
+    private final LedgerBalanceService ledgerBalanceService;
+    private final TransactionIdGenerator transactionIdGenerator;
     private static final int MAX_ACCOUNT_SIZE = 10;
 
     @Transactional
@@ -33,11 +41,10 @@ public class AccountService {
         AccountUser accountUser = getAccountUser(userId);
         validateCreateAccount(accountUser);
 
-        String newAccountNumber = accountRepository.findFirstByOrderByIdDesc()
-                .map(account -> String.valueOf(Integer.parseInt(account.getAccountNumber()) + 1))
-                .orElse(DEFAULT_ACCOUNT_NUMBER);
+        // 발급기가 중복 없는 번호를 주므로 별도 조회 없이 저장한다. (중복 시 unique 제약 위반)
+        String newAccountNumber = accountNumberGenerator.next();
 
-        validateCreateAccountNumber(newAccountNumber);
+        accountListCache.evictAfterCommit(userId);
 
         return AccountDto.fromEntity(
                 accountRepository.save(Account.builder()
@@ -49,13 +56,6 @@ public class AccountService {
                         .build()));
     }
 
-    private void validateCreateAccountNumber(String newAccountNumber) {
-        accountRepository.findByAccountNumber(newAccountNumber)
-                .ifPresent(o -> {
-                    throw new AccountException(ACCOUNT_ALREADY_EXIST);
-                });
-    }
-
     private void validateCreateAccount(AccountUser accountUser) {
         if (accountRepository.countByAccountUser(accountUser) >= MAX_ACCOUNT_SIZE) {
             throw new AccountException(MAX_ACCOUNT_PER_USER_10);
@@ -69,14 +69,27 @@ public class AccountService {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
 
-        validateDeleteAccount(accountUser, account);
+        LedgerBalance balance = ledgerBalanceService.isEnabled()
+                ? ledgerBalanceService.getBalance(account)
+                : new LedgerBalance(account.getBalance(), 0L);
+
+        validateDeleteAccount(accountUser, account, balance.balance());
 
         // 상태 변경
         account.changeAccountForDelete();
+
+        // ledger 모드 : 잔액 사용/취소는 계좌 row 를 고치지 않으므로, 해지도 다음 순번으로 append 해서
+        // 같은 (account_id, ledger_seq) 유니크 인덱스에서 경합한다. 먼저 append 한 쪽만 커밋되고,
+        // 진 잔액 사용/취소는 재시도 시 해지된 계좌를 보고 실패한다. (진 해지는 ACCOUNT_TRANSACTION_LOCK)
+        if (ledgerBalanceService.isEnabled()) {
+            ledgerBalanceService.append(List.of(getCloseTransaction(account, balance.apply(0L))));
+        }
+
+        accountListCache.evictAfterCommit(userId);
         return AccountDto.fromEntity(account);
     }
 
-    private void validateDeleteAccount(AccountUser accountUser, Account account) {
+    private void validateDeleteAccount(AccountUser accountUser, Account account, long balance) {
         if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
@@ -85,16 +98,41 @@ public class AccountService {
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
 
-        if (account.getBalance() > 0) {
+        if (balance > 0) {
             throw new AccountException(BALANCE_NOT_EMPTY);
         }
     }
 
+    private Transaction getCloseTransaction(Account account, LedgerBalance after) {
+        return Transaction.builder()
+                .transactionType(CLOSE)
+                .transactionResultType(S)
+                .account(account)
+                .amount(0L)
+                .balanceSnapshot(after.balance())
+                .transactionId(transactionIdGenerator.generate())
+                .transactedAt(LocalDateTime.now())
+                .ledgerSeq(after.seq())
+                .build();
+    }
+
     public List<AccountDto> getAccountsByUserId(Long userId) {
-        AccountUser accountUser = getAccountUser(userId);
+        return accountListCache.get(userId, () -> {
+            getAccountUser(userId);
+
+            return accountRepository.findViewsByAccountUserId(userId)
+                    .stream().map(this::toAccountDto).toList();
+        });
+    }
+
+    // ledger 모드 : balance 컬럼은 주기적으로 갱신되는 스냅샷이므로 이후 거래까지 반영한 잔액을 응답한다.
+    private AccountDto toAccountDto(AccountView accountView) {
+        if (!ledgerBalanceService.isEnabled()) {
+            return AccountDto.fromView(accountView);
+        }
 
-        return accountRepository.findByAccountUser(accountUser)
-                .stream().map(AccountDto::fromEntity).toList();
+        return AccountDto.fromView(accountView, ledgerBalanceService.getBalance(
+                accountView.getId(), accountView.getBalance(), accountView.getSnapshotSeq()).balance());
     }
 
     private AccountUser getAccountUser(Long userId) {
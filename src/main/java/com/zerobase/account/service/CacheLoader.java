@@ -0,0 +1,42 @@
+package com.zerobase.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine 캐시 미스 시 loader 를 호출한 스레드에서 직접 실행한다.
+ * Cache.get(key, mappingFunction) 은 ConcurrentHashMap.compute 의 synchronized 구간에서 loader (JDBC 조회) 를 돌리므로
+ * 가상 스레드가 캐리어 스레드에 고정 (pinning) 된다. 여기서는 빈 future 만 맵에 넣고, 조회는 잠금 밖에서 한 뒤 완료시킨다.
+ * 같은 키를 동시에 조회하는 스레드는 그 future 를 기다린다. (park 이므로 고정되지 않음)
+ * 조회 도중 invalidate 되면 future 가 맵에서 빠지므로 조회 결과가 캐시에 남지 않는다.
+ */
+final class CacheLoader {
+    private CacheLoader() {
+    }
+
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(loader.get()); // null 이면 캐싱하지 않는다.
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.aop.AccountLockProvider;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.type.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 계좌 row 에 대한 비관적 락 (SELECT ... FOR UPDATE)
+ * lock 에서 트랜잭션을 열고 row 락을 잡은 뒤 unlock 에서 커밋한다.
+ * 락이 걸린 메서드 안의 @Transactional 서비스 호출은 이 트랜잭션에 참여한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "database")
+public class DatabaseLockService implements AccountLockProvider {
+    private static final int LEASE_TIME_SECONDS = 5;
+
+    private final AccountRepository accountRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 락을 잡고 있는 트랜잭션 (계좌번호 -> 트랜잭션)
+    private final ThreadLocal<Map<String, TransactionStatus>> lockTransactions =
+            ThreadLocal.withInitial(HashMap::new);
+
+    @Override
+    public void lock(String accountNumber, long waitTime) {
+        log.debug("Trying row lock for accountNumber : {}", accountNumber);
+
+        // 트랜잭션 타임아웃이 row 락 쿼리의 타임아웃으로 적용된다. (초 단위로 올림)
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout((int) Math.max(1, (waitTime + 999) / 1000));
+        TransactionStatus status = transactionManager.getTransaction(definition);
+
+        try {
+            // 계좌가 없으면 잠글 row 가 없으므로 락 없이 진행하지 않는다.
+            accountRepository.findForUpdateByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        } catch (PessimisticLockingFailureException | QueryTimeoutException
+                 | TransactionTimedOutException e) {
+            transactionManager.rollback(status);
+            log.error("======Lock acquisition failed=====");
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+
+        // 락 취득 이후에는 대기 시간 대신 lease 시간만큼 트랜잭션을 유지할 수 있다.
+        EntityManagerHolder holder = (EntityManagerHolder)
+                TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder != null) {
+            holder.setTimeoutInSeconds(LEASE_TIME_SECONDS);
+        }
+
+        lockTransactions.get().put(accountNumber, status);
+    }
+
+    @Override
+    public void unlock(String accountNumber) {
+        log.debug("Unlock for accountNumber : {}", accountNumber);
+
+        Map<String, TransactionStatus> transactions = lockTransactions.get();
+        TransactionStatus status = transactions.remove(accountNumber);
+        if (transactions.isEmpty()) {
+            lockTransactions.remove();
+        }
+
+        if (status == null) {
+            throw new IllegalMonitorStateException(
+                    "attempt to unlock lock, not locked by current thread");
+        }
+
+        if (status.isRollbackOnly()) {
+            transactionManager.rollback(status);
+        } else {
+            transactionManager.commit(status);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.type.TransactionType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.zerobase.account.type.TransactionType.CANCEL;
+import static com.zerobase.account.type.TransactionType.USE;
+
+/**
+ * 실패 거래 기록기
+ * 잔액 사용/취소에 실패한 요청을 bounded 큐에 넣고 바로 반환한다. (락 해제, 에러 응답이 기록을 기다리지 않음)
+ * 워커 스레드가 계좌를 조회해 LedgerWriter 에 넘기면 다른 거래 내역과 함께 배치 insert 된다.
+ * 큐가 가득 차면 기록을 버리고 account.failed.transaction.dropped 를 올린다.
+ */
+@Slf4j
+@Component
+public class FailedTransactionRecorder implements MeterBinder {
+    private final TransactionService transactionService;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public FailedTransactionRecorder(TransactionService transactionService,
+                                     @Value("${account.failed-transaction.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${account.failed-transaction.threads:2}") int threads) {
+        this.transactionService = transactionService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new RecorderThreadFactory());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(3, TimeUnit.SECONDS)) {
+            log.warn("Failed transactions not recorded on shutdown. count = {}",
+                    executor.shutdownNow().size());
+        }
+    }
+
+    public void recordUse(String accountNumber, Long amount) {
+        record(USE, accountNumber, amount);
+    }
+
+    public void recordCancel(String accountNumber, Long amount) {
+        record(CANCEL, accountNumber, amount);
+    }
+
+    private void record(TransactionType transactionType, String accountNumber, Long amount) {
+        try {
+            executor.execute(() -> save(transactionType, accountNumber, amount));
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            log.warn("Failed transaction dropped. type = {}, accountNumber = {}, amount = {}",
+                    transactionType, accountNumber, amount);
+        }
+    }
+
+    private void save(TransactionType transactionType, String accountNumber, Long amount) {
+        try {
+            if (transactionType == USE) {
+                transactionService.saveFailedUseTransaction(accountNumber, amount);
+            } else {
+                transactionService.saveFailedCancelTransaction(accountNumber, amount);
+            }
+        } catch (Exception e) {
+            // 없는 계좌에 대한 요청 등은 기록할 수 없다.
+            log.error("Failed to record failed transaction. type = {}, accountNumber = {}, msg = {}",
+                    transactionType, accountNumber, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("account.failed.transaction.queue.size", executor, e -> e.getQueue().size())
+                .description("기록 대기 중인 실패 거래 수")
+                .register(registry);
+        Gauge.builder("account.failed.transaction.queue.remaining", executor,
+                        e -> e.getQueue().remainingCapacity())
+                .description("실패 거래 큐의 남은 용량")
+                .register(registry);
+        FunctionCounter.builder("account.failed.transaction.dropped", dropped, AtomicLong::doubleValue)
+                .description("큐가 가득 차서 버린 실패 거래 수")
+                .register(registry);
+    }
+
+    private static final class RecorderThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "failed-transaction-recorder-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.domain.Account;
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.LedgerHeadView;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ledger 모드 잔액 (account.balance.mode=ledger)
+ * 잔액은 스냅샷 (account.balance, snapshotSeq) 이후의 거래를 더한 값이다. 거래마다 거래 후 잔액 (balanceSnapshot) 을
+ * 기록하므로 스냅샷 이후 거래가 있으면 가장 최근 거래의 balanceSnapshot 이 곧 현재 잔액이다.
+ * 잔액 변경은 account row 를 고치지 않고, 다음 순번 (ledgerSeq) 으로 거래를 append 한다.
+ * 같은 순번이 이미 있으면 (account_id, ledger_seq) 유니크 인덱스에 걸리고, 낙관적 락 충돌로 바꿔 재시도하게 한다.
+ */
+@Slf4j
+@Service
+public class LedgerBalanceService {
+    static final String LEDGER_SEQ_INDEX = "ux_transaction_account_id_ledger_seq";
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int snapshotChunkSize;
+
+    // 스냅샷에 반영한 마지막 거래 id (노드가 다시 뜨면 처음부터 chunk 단위로 다시 훑는다)
+    private volatile long lastSnapshotTransactionId;
+
+    public LedgerBalanceService(TransactionRepository transactionRepository,
+                                AccountRepository accountRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${account.balance.mode:account}") String balanceMode,
+                                @Value("${account.balance.snapshot-chunk-size:10000}") int snapshotChunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = "ledger".equals(balanceMode);
+        this.snapshotChunkSize = snapshotChunkSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LedgerBalance getBalance(Account account) {
+        return getBalance(account.getId(), account.getBalance(), account.getSnapshotSeq());
+    }
+
+    /**
+     * 계좌 엔티티 없이 스냅샷 (balance, snapshotSeq) 만 있는 경우 (계좌 목록 projection)
+     */
+    public LedgerBalance getBalance(Long accountId, Long snapshotBalance, Long snapshotSeq) {
+        long seq = snapshotSeq == null ? 0L : snapshotSeq;
+
+        return transactionRepository
+                .findFirstByAccountIdAndLedgerSeqNotNullOrderByLedgerSeqDesc(accountId)
+                .filter(head -> head.getLedgerSeq() > seq)
+                .map(head -> new LedgerBalance(head.getBalanceSnapshot(), head.getLedgerSeq()))
+                .orElseGet(() -> new LedgerBalance(snapshotBalance, seq));
+    }
+
+    /**
+     * 조건부 append : 바로 flush 해서 순번 충돌을 이 자리에서 확인한다.
+     * 순번 인덱스 위반만 낙관적 락 충돌로 바꾸고, 다른 제약 위반 (거래 id 중복, FK 등) 은 그대로 던진다.
+     */
+    public void append(List<Transaction> transactions) {
+        try {
+            transactionRepository.saveAllAndFlush(transactions);
+        } catch (DataIntegrityViolationException e) {
+            if (isLedgerSeqConflict(e)) {
+                throw new OptimisticLockingFailureException("Ledger sequence conflict", e);
+            }
+            throw e;
+        }
+    }
+
+    // 제약 이름은 하이버네이트가 뽑아 주면 그것을, 아니면 드라이버 메시지를 본다. (H2 는 대문자로 내려준다)
+    private static boolean isLedgerSeqConflict(DataIntegrityViolationException e) {
+        String source = e.getCause() instanceof ConstraintViolationException cve
+                && cve.getConstraintName() != null
+                ? cve.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+
+        return source != null && source.toLowerCase(Locale.ROOT).contains(LEDGER_SEQ_INDEX);
+    }
+
+    /**
+     * 스냅샷 갱신 : 계좌 잔액 컬럼을 최신 거래 기준으로 맞춘다. (거래 내역은 지우지 않는다)
+     * 지난번 이후 새로 쌓인 거래를 id 범위 (snapshotChunkSize) 로 나누어, 범위마다 새 거래가 있는 계좌만 한 트랜잭션에서 갱신한다.
+     * 커밋 순서와 id 순서가 달라 범위를 지난 뒤에 커밋된 거래는 빠질 수 있지만, 잔액은 항상 최신 거래 기준으로 계산하므로
+     * 스냅샷이 늦어질 뿐이다. (그 계좌에 다음 거래가 쌓이면 반영된다)
+     */
+    @Scheduled(fixedDelayString = "${account.balance.snapshot-interval:60000}")
+    public void updateSnapshots() {
+        if (!enabled) {
+            return;
+        }
+
+        Long maxId = transactionRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int updated = 0;
+        for (long fromId = lastSnapshotTransactionId; fromId < maxId; fromId += snapshotChunkSize) {
+            long toId = Math.min(fromId + snapshotChunkSize, maxId);
+            updated += updateSnapshots(fromId, toId);
+            lastSnapshotTransactionId = toId;
+        }
+        log.debug("Ledger snapshots updated. accounts = {}", updated);
+    }
+
+    private int updateSnapshots(long fromId, long toId) {
+        Integer updated = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (LedgerHeadView head : transactionRepository.findLedgerHeads(fromId, toId)) {
+                count += accountRepository.updateLedgerSnapshot(
+                        head.getAccountId(), head.getBalanceSnapshot(), head.getLedgerSeq());
+            }
+            return count;
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    /**
+     * @param balance 현재 잔액
+     * @param seq     마지막 거래 순번 (다음 거래는 seq + 1)
+     */
+    public record LedgerBalance(long balance, long seq) {
+        public LedgerBalance apply(long delta) {
+            return new LedgerBalance(balance + delta, seq + 1);
+        }
+    }
+}
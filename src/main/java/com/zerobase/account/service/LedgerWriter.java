@@ -0,0 +1,151 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.TransactionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.zerobase.account.type.ErrorCode.LEDGER_WRITE_FAILED;
+
+/**
+ * 실패 거래 내역 group commit writer
+ * 실패 거래는 기다리는 호출자가 없으므로 큐에 모아 batchSize 개 또는 linger 시간 단위로
+ * 한 트랜잭션에서 배치 insert 한다. (flusher 스레드 하나가 큐를 비운다)
+ * 성공 거래는 잔액 변경과 같이 커밋되어야 하므로 여기를 거치지 않고 TransactionService 가 바로 저장한다.
+ */
+@Slf4j
+@Component
+public class LedgerWriter implements MeterBinder {
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000L;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public LedgerWriter(TransactionRepository transactionRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${account.ledger.queue-capacity:10000}") int queueCapacity,
+                        @Value("${account.ledger.batch-size:100}") int batchSize,
+                        @Value("${account.ledger.linger:5}") long lingerMillis) {
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "ledger-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 큐에 넣고 바로 반환한다. 큐가 가득 찬 경우 실패한 future 를 돌려준다.
+     */
+    public CompletableFuture<Transaction> append(Transaction transaction) {
+        Entry entry = new Entry(transaction, new CompletableFuture<>());
+        if (!running || !queue.offer(entry)) {
+            entry.future().completeExceptionally(new AccountException(LEDGER_WRITE_FAILED));
+        }
+        return entry.future();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // linger 시간 동안 batchSize 까지 모은다.
+    private void collect(List<Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        List<Transaction> transactions = batch.stream().map(Entry::transaction).toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> transactionRepository.saveAll(transactions));
+        } catch (Exception e) {
+            log.error("Failed to flush ledger batch. size = {}", batch.size(), e);
+            batch.forEach(entry -> entry.future().completeExceptionally(e));
+            return;
+        }
+
+        batch.forEach(entry -> entry.future().complete(entry.transaction()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("account.ledger.queue.size", queue, BlockingQueue::size)
+                .description("flush 대기 중인 거래 내역 수")
+                .register(registry);
+    }
+
+    private record Entry(Transaction transaction, CompletableFuture<Transaction> future) {
+    }
+}
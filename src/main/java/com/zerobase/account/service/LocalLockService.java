@@ -0,0 +1,120 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.aop.AccountLockProvider;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 노드 배포용 인메모리 계좌 락
+ * 계좌번호를 고정 개수의 stripe 로 나누고, stripe 안에서 계좌별 lease 를 관리한다.
+ * lease 는 unlock 시 제거되므로 메모리는 동시에 잡혀있는 락 수 만큼만 사용한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "local")
+public class LocalLockService implements AccountLockProvider {
+    private final Stripe[] stripes;
+    private final long leaseTimeNanos;
+
+    public LocalLockService(
+            @Value("${account.lock.local.stripes:64}") int stripeCount,
+            @Value("${account.lock.local.lease-time:5000}") long leaseTimeMillis) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.leaseTimeNanos = TimeUnit.MILLISECONDS.toNanos(leaseTimeMillis);
+    }
+
+    @Override
+    public void lock(String accountNumber, long waitTime) {
+        Stripe stripe = getStripe(accountNumber);
+        log.debug("Trying local lock for accountNumber : {}", accountNumber);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+
+        stripe.lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                Lease lease = stripe.leases.get(accountNumber);
+
+                // 락이 없거나 lease 가 만료되었으면 취득
+                if (lease == null || lease.isExpired(now)) {
+                    stripe.leases.put(accountNumber,
+                            new Lease(Thread.currentThread(), now + leaseTimeNanos));
+                    return;
+                }
+
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    log.error("======Lock acquisition failed=====");
+                    throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                }
+
+                // unlock 신호 또는 lease 만료 중 먼저 오는 시점까지 대기
+                stripe.released.awaitNanos(Math.min(remaining, lease.expiresAt - now));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void unlock(String accountNumber) {
+        Stripe stripe = getStripe(accountNumber);
+        log.debug("Unlock for accountNumber : {}", accountNumber);
+
+        stripe.lock.lock();
+        try {
+            Lease lease = stripe.leases.get(accountNumber);
+            // lease 가 만료되어 다른 요청이 가져간 경우 Redisson 과 동일하게 예외 발생
+            if (lease == null || lease.owner != Thread.currentThread()) {
+                throw new IllegalMonitorStateException(
+                        "attempt to unlock lock, not locked by current thread");
+            }
+
+            stripe.leases.remove(accountNumber);
+            stripe.released.signalAll();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe getStripe(String accountNumber) {
+        return stripes[Math.floorMod(accountNumber.hashCode(), stripes.length)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        private final Map<String, Lease> leases = new HashMap<>();
+    }
+
+    private static final class Lease {
+        private final Thread owner;
+        private final long expiresAt;
+
+        private Lease(Thread owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -1,31 +1,49 @@
 package com.zerobase.account.service;
 
+import com.zerobase.account.aop.AccountLock;
 import com.zerobase.account.aop.AccountLockIdInterface;
+import com.zerobase.account.aop.AccountLockProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
+@ConditionalOnExpression("'${account.lock.provider:redis}' != 'shard'") // shard 는 ShardRoutingAspect
+@Order(2) // OptimisticRetryAspect 안쪽, 트랜잭션 바깥쪽에서 락을 잡는다.
 @Slf4j
 @RequiredArgsConstructor
 public class LockAopAspect {
-    private final LockService lockService;
+    private final AccountLockProvider accountLockProvider;
+    private final AccountMetrics accountMetrics;
 
-    @Around("@annotation(com.zerobase.account.aop.AccountLock) && args(request)")
+    @Around("@annotation(accountLock) && args(request)")
     public Object aroundMethod(ProceedingJoinPoint joinPoint,
+                               AccountLock accountLock,
                                AccountLockIdInterface request) throws Throwable {
         // lock 취득 시도
-        lockService.lock(request.getAccountNumber());
+        long waitStartedAt = System.nanoTime();
+        try {
+            accountLockProvider.lock(request.getAccountNumber(), accountLock.tryLockTime());
+        } catch (RuntimeException e) {
+            accountMetrics.recordLockFailure();
+            throw e;
+        }
+
+        long acquiredAt = System.nanoTime();
+        accountMetrics.recordLockWait(acquiredAt - waitStartedAt);
 
         try {
            return joinPoint.proceed();
         } finally {
             // lock 해제
-            lockService.unlock(request.getAccountNumber());
+            accountLockProvider.unlock(request.getAccountNumber());
+            accountMetrics.recordLockHold(System.nanoTime() - acquiredAt);
         }
     }
 }
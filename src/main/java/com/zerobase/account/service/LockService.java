@@ -1,11 +1,13 @@
 package com.zerobase.account.service;
 
+import com.zerobase.account.aop.AccountLockProvider;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
@@ -13,16 +15,21 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class LockService {
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "redis", matchIfMissing = true)
+public class LockService implements AccountLockProvider {
+    private static final long LEASE_TIME_MILLIS = 5000L;
+
     private final RedissonClient redissonClient;
+    private final AccountMetrics accountMetrics;
 
-    public void lock(String accountNumber) {
+    @Override
+    public void lock(String accountNumber, long waitTime) {
         RLock lock = redissonClient.getLock(getLockKey(accountNumber));
         log.debug("Trying lock for accountNumber : {}", accountNumber);
 
         try {
-            // 5초 동안 아무 동작이 없으면 락이 풀리게 되고, 3초동안 기다렸는데 락이 안풀리면 락을 취득하지 못한다.
-            boolean isLock = lock.tryLock(3, 5, TimeUnit.SECONDS);
+            // 5초 동안 아무 동작이 없으면 락이 풀리게 되고, waitTime 동안 기다렸는데 락이 안풀리면 락을 취득하지 못한다.
+            boolean isLock = lock.tryLock(waitTime, LEASE_TIME_MILLIS, TimeUnit.MILLISECONDS);
             if (!isLock) {
                 log.error("======Lock acquisition failed=====");
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
@@ -31,15 +38,18 @@ public class LockService {
             throw e;
         } catch (Exception e) {
             log.error("Redis lock failed", e);
+            accountMetrics.recordRedisError();
         }
     }
 
+    @Override
     public void unlock(String accountNumber) {
         log.debug("Unlock for accountNumber : {}", accountNumber);
         redissonClient.getLock(getLockKey(accountNumber)).unlock();
     }
 
-    private static String getLockKey(String accountNumber) {
+    // ReactiveLockService 와 같은 키를 사용해야 블로킹/reactive 엔드포인트가 서로를 막는다.
+    static String getLockKey(String accountNumber) {
         return "ACLK:" + accountNumber;
     }
 }
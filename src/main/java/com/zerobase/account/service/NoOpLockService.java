@@ -0,0 +1,25 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.aop.AccountLockProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 락을 잡지 않는 구현체
+ * 동시성은 Account 의 @Version 과 OptimisticRetryAspect 의 재시도로 보장한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "none")
+public class NoOpLockService implements AccountLockProvider {
+    @Override
+    public void lock(String accountNumber, long waitTime) {
+        log.debug("Skip lock for accountNumber : {}", accountNumber);
+    }
+
+    @Override
+    public void unlock(String accountNumber) {
+        log.debug("Skip unlock for accountNumber : {}", accountNumber);
+    }
+}
@@ -0,0 +1,59 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 락 (Account @Version) 충돌 시 @AccountLock 메서드를 다시 실행한다.
+ * 락과 트랜잭션 바깥에서 동작하므로 재시도마다 새 트랜잭션으로 계좌를 다시 읽는다.
+ */
+@Aspect
+@Component
+@Order(1)
+@Slf4j
+public class OptimisticRetryAspect {
+    private final int maxAttempts;
+    private final long backoff;
+
+    public OptimisticRetryAspect(
+            @Value("${account.optimistic.max-attempts:3}") int maxAttempts,
+            @Value("${account.optimistic.backoff:20}") long backoff) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    @Around("@annotation(com.zerobase.account.aop.AccountLock)")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Optimistic lock conflict. attempts = {}", attempt);
+                    throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                }
+
+                log.debug("Optimistic lock conflict, retry. attempt = {}", attempt);
+                sleep(attempt);
+            }
+        }
+    }
+
+    // full jitter : 0 ~ backoff * 2^(attempt - 1) 사이에서 랜덤하게 대기
+    private void sleep(int attempt) throws InterruptedException {
+        long bound = backoff << Math.min(attempt - 1, 10);
+        if (bound > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        }
+    }
+}
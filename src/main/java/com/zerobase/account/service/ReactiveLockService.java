@@ -0,0 +1,71 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redisson reactive 락 (reactive 엔드포인트용)
+ * 락을 기다리는 동안 스레드를 잡지 않는다. 잠금과 해제가 서로 다른 스레드에서 실행되므로
+ * 스레드 ID 대신 요청마다 발급한 락 ID 로 소유자를 구분한다. (스레드 ID 와 겹치지 않도록 음수)
+ * 블로킹 엔드포인트의 LockService 와 같은 키를 사용하므로 account.lock.provider=redis 에서만 사용할 수 있다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "account.reactive", name = "enabled", havingValue = "true")
+public class ReactiveLockService {
+    private static final long LEASE_TIME_MILLIS = 5000L;
+
+    private final RedissonReactiveClient redissonReactiveClient;
+    private final AccountMetrics accountMetrics;
+    private final AtomicLong lockIdSequence = new AtomicLong();
+
+    public ReactiveLockService(RedissonClient redissonClient,
+                               AccountMetrics accountMetrics,
+                               @Value("${account.lock.provider:redis}") String lockProvider) {
+        if (!"redis".equals(lockProvider)) {
+            throw new IllegalStateException(
+                    "account.reactive.enabled=true requires account.lock.provider=redis. current = "
+                            + lockProvider);
+        }
+        this.redissonReactiveClient = redissonClient.reactive();
+        this.accountMetrics = accountMetrics;
+    }
+
+    /**
+     * @return 락 ID (unlock 에 넘긴다), waitTime 안에 취득하지 못하면 ACCOUNT_TRANSACTION_LOCK
+     */
+    public Mono<Long> lock(String accountNumber, long waitTime) {
+        long lockId = -lockIdSequence.incrementAndGet();
+        log.debug("Trying reactive lock for accountNumber : {}", accountNumber);
+        long waitStartedAt = System.nanoTime();
+
+        return redissonReactiveClient.getLock(LockService.getLockKey(accountNumber))
+                .tryLock(waitTime, LEASE_TIME_MILLIS, TimeUnit.MILLISECONDS, lockId)
+                .doOnError(e -> accountMetrics.recordRedisError())
+                .flatMap(isLock -> {
+                    if (!isLock) {
+                        log.error("======Lock acquisition failed=====");
+                        accountMetrics.recordLockFailure();
+                        return Mono.error(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+                    }
+                    accountMetrics.recordLockWait(System.nanoTime() - waitStartedAt);
+                    return Mono.just(lockId);
+                });
+    }
+
+    public Mono<Void> unlock(String accountNumber, long lockId) {
+        log.debug("Unlock for accountNumber : {}", accountNumber);
+        return redissonReactiveClient.getLock(LockService.getLockKey(accountNumber))
+                .unlock(lockId);
+    }
+}
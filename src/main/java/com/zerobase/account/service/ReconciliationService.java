@@ -0,0 +1,144 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.dto.AccountReconciliationView;
+import com.zerobase.account.dto.Reconciliation;
+import com.zerobase.account.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 잔액 대사 (account.balance 와 거래 내역 balanceSnapshot 체인 비교)
+ * 락 없이 처리된 요청 (레디스 장애 등) 때문에 잔액과 거래 내역이 어긋났는지 확인한다.
+ * 계좌를 id 범위 (partitionSize) 로 나누고, fork-join 풀에서 범위마다 집계 쿼리 한 번으로 병렬 검사한다.
+ * 1. BALANCE : 계좌 잔액과 마지막 성공 거래의 balanceSnapshot 비교 (ledger 모드는 잔액 컬럼이 스냅샷이므로 제외)
+ * 2. CHAIN : 첫 거래 전 잔액 + USE/CANCEL 변경액 합계와 마지막 balanceSnapshot 비교
+ */
+@Slf4j
+@Service
+public class ReconciliationService {
+    private final AccountRepository accountRepository;
+    private final LedgerBalanceService ledgerBalanceService;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitionSize;
+    private final int parallelism;
+    private final int maxMismatches;
+
+    public ReconciliationService(AccountRepository accountRepository,
+                                 LedgerBalanceService ledgerBalanceService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${account.reconciliation.partition-size:10000}") int partitionSize,
+                                 @Value("${account.reconciliation.parallelism:4}") int parallelism,
+                                 @Value("${account.reconciliation.max-mismatches:1000}") int maxMismatches) {
+        this.accountRepository = accountRepository;
+        this.ledgerBalanceService = ledgerBalanceService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.maxMismatches = maxMismatches;
+    }
+
+    // cron 이 "-" (기본값) 이면 실행하지 않는다.
+    @Scheduled(cron = "${account.reconciliation.cron:-}")
+    public void reconcileScheduled() {
+        reconcile();
+    }
+
+    public Reconciliation.Result reconcile() {
+        Long minId = accountRepository.findMinId();
+        Long maxId = accountRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return Reconciliation.Result.EMPTY;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Reconciliation.Result result;
+        try {
+            result = pool.invoke(new PartitionTask(minId, maxId));
+        } finally {
+            pool.shutdown();
+        }
+
+        result.mismatches().forEach(mismatch ->
+                log.warn("Balance mismatch. {}", mismatch));
+        log.info("Reconciliation finished. accounts = {}, mismatches = {}, elapsed = {}ms",
+                result.checkedAccounts(), result.mismatchCount(),
+                System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    private Reconciliation.Result reconcilePartition(long fromId, long toId) {
+        List<AccountReconciliationView> views = transactionTemplate.execute(
+                status -> accountRepository.findReconciliationViews(fromId, toId));
+
+        List<Reconciliation.Mismatch> mismatches = new ArrayList<>();
+        long mismatchCount = 0;
+        for (AccountReconciliationView view : views) {
+            for (Reconciliation.Mismatch mismatch : check(view)) {
+                if (mismatches.size() < maxMismatches) {
+                    mismatches.add(mismatch);
+                }
+                mismatchCount++;
+            }
+        }
+
+        return new Reconciliation.Result(views.size(), mismatchCount, mismatches);
+    }
+
+    private List<Reconciliation.Mismatch> check(AccountReconciliationView view) {
+        List<Reconciliation.Mismatch> mismatches = new ArrayList<>(2);
+        long latestSnapshot = view.getLatestSnapshot();
+
+        if (!ledgerBalanceService.isEnabled() && view.getBalance() != latestSnapshot) {
+            mismatches.add(new Reconciliation.Mismatch(view.getAccountId(), view.getAccountNumber(),
+                    Reconciliation.Type.BALANCE, latestSnapshot, view.getBalance()));
+        }
+
+        long expected = view.getOpeningBalance() + view.getDeltaSum();
+        if (expected != latestSnapshot) {
+            mismatches.add(new Reconciliation.Mismatch(view.getAccountId(), view.getAccountNumber(),
+                    Reconciliation.Type.CHAIN, expected, latestSnapshot));
+        }
+
+        return mismatches;
+    }
+
+    /**
+     * [fromId, toId] 를 partitionSize 경계에서 반으로 나누어 fork 하고, partitionSize 이하이면 직접 검사한다.
+     */
+    private final class PartitionTask extends RecursiveTask<Reconciliation.Result> {
+        private final long fromId;
+        private final long toId;
+
+        private PartitionTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Reconciliation.Result compute() {
+            long partitions = (toId - fromId) / partitionSize + 1;
+            if (partitions == 1) {
+                return reconcilePartition(fromId, toId);
+            }
+
+            long midId = fromId + (partitions / 2) * partitionSize - 1;
+            PartitionTask left = new PartitionTask(fromId, midId);
+            PartitionTask right = new PartitionTask(midId + 1, toId);
+            left.fork();
+
+            Reconciliation.Result rightResult = right.compute();
+            return left.join().merge(rightResult, maxMismatches);
+        }
+    }
+}
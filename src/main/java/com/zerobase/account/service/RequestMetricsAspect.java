@@ -0,0 +1,88 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.dto.UseBalanceBatch;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 컨트롤러 메서드마다 처리 시간과 결과 (S/F, ErrorCode) 를 account.request 타이머에 기록한다.
+ * Mono 를 반환하는 reactive 엔드포인트는 Mono 가 끝났을 때 (취소되면 error=CANCELLED),
+ * StreamingResponseBody (거래 내역 내보내기) 는 응답 스트림을 다 쓴 뒤에 기록한다. 일괄 잔액 사용은 건별 결과를 account.request.items 에 따로 센다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsAspect {
+    private final AccountMetrics accountMetrics;
+
+    @Around("within(com.zerobase.account.controller..*) "
+            + "&& @within(org.springframework.web.bind.annotation.RestController)")
+    public Object aroundEndpoint(ProceedingJoinPoint joinPoint) throws Throwable {
+        String endpoint = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        long startedAt = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            accountMetrics.recordRequest(endpoint, System.nanoTime() - startedAt, e);
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return timed(endpoint, startedAt, mono);
+        }
+
+        if (result instanceof ResponseEntity<?> entity
+                && entity.getBody() instanceof StreamingResponseBody body) {
+            return new ResponseEntity<>(timed(endpoint, startedAt, body),
+                    entity.getHeaders(), entity.getStatusCode());
+        }
+
+        if (result instanceof UseBalanceBatch.Response response) {
+            response.getResults().forEach(item ->
+                    accountMetrics.recordRequestItem(endpoint, item.getErrorCode()));
+        }
+
+        accountMetrics.recordRequest(endpoint, System.nanoTime() - startedAt, null);
+        return result;
+    }
+
+    // 성공, 실패, 취소 (구독 해제) 중 어느 쪽으로 끝나도 doFinally 에서 한 번만 기록한다.
+    private Mono<?> timed(String endpoint, long startedAt, Mono<?> mono) {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        return mono
+                .doOnError(error::set)
+                .doFinally(signalType -> {
+                    long nanos = System.nanoTime() - startedAt;
+                    if (signalType == SignalType.CANCEL) {
+                        accountMetrics.recordRequestCancelled(endpoint, nanos);
+                    } else {
+                        accountMetrics.recordRequest(endpoint, nanos, error.get());
+                    }
+                });
+    }
+
+    // 컨트롤러는 스트림을 쓰기 전에 반환하므로, 실제 쓰기 (비동기 스레드) 가 끝났을 때 기록한다.
+    private StreamingResponseBody timed(String endpoint, long startedAt, StreamingResponseBody body) {
+        return outputStream -> {
+            try {
+                body.writeTo(outputStream);
+            } catch (Throwable e) {
+                accountMetrics.recordRequest(endpoint, System.nanoTime() - startedAt, e);
+                throw e;
+            }
+            accountMetrics.recordRequest(endpoint, System.nanoTime() - startedAt, null);
+        };
+    }
+}
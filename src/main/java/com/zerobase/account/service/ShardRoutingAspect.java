@@ -0,0 +1,43 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.aop.AccountLock;
+import com.zerobase.account.aop.AccountLockIdInterface;
+import com.zerobase.account.exception.AccountException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import static com.zerobase.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+
+/**
+ * account.lock.provider=shard 일 때 LockAopAspect 대신 @AccountLock 메서드를 계좌의 shard 스레드에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(2) // LockAopAspect 와 같은 위치 (OptimisticRetryAspect 안쪽, 트랜잭션 바깥쪽)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "shard")
+public class ShardRoutingAspect {
+    private final ShardedBalanceEngine shardedBalanceEngine;
+    private final AccountMetrics accountMetrics;
+
+    @Around("@annotation(accountLock) && args(request)")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint,
+                               AccountLock accountLock,
+                               AccountLockIdInterface request) throws Throwable {
+        try {
+            return shardedBalanceEngine.execute(request.getAccountNumber(),
+                    accountLock.tryLockTime(), joinPoint::proceed);
+        } catch (AccountException e) {
+            // 큐가 가득 찼거나 대기 시간 안에 실행되지 못한 경우 (락 취득 실패와 같은 의미)
+            if (e.getErrorCode() == ACCOUNT_TRANSACTION_LOCK) {
+                accountMetrics.recordLockFailure();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.zerobase.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+
+/**
+ * 계좌별 single-writer 잔액 엔진 (account.lock.provider=shard, 단일 노드 전용)
+ * 계좌번호를 N 개의 shard 중 하나로 보내고, shard 마다 스레드 하나가 잔액 변경을 순서대로 실행한다.
+ * 같은 계좌는 항상 같은 스레드에서 실행되므로 락을 잡지 않는다.
+ * shard 스레드는 큐에 쌓인 작업을 batchSize 개까지 모아 한 트랜잭션에서 실행하고 커밋한다. (group commit)
+ * 커밋이 실패하면 (AccountException 외의 예외로 롤백 마킹된 경우 등) 모은 작업을 하나씩 다시 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "account.lock", name = "provider", havingValue = "shard")
+public class ShardedBalanceEngine {
+    private final Shard[] shards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private volatile boolean running = true;
+
+    public ShardedBalanceEngine(PlatformTransactionManager transactionManager,
+                                @Value("${account.shard.count:8}") int shardCount,
+                                @Value("${account.shard.queue-capacity:10000}") int queueCapacity,
+                                @Value("${account.shard.batch-size:50}") int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+            shards[i].thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.thread.join(3000L);
+        }
+    }
+
+    /**
+     * 계좌의 shard 스레드에서 work 를 실행하고 커밋될 때까지 기다린다.
+     * waitTime 안에 실행이 시작되지 않으면 (큐가 가득 찬 경우 포함) ACCOUNT_TRANSACTION_LOCK.
+     * 실행이 시작된 작업은 취소하지 않고 끝날 때까지 기다린다.
+     */
+    public Object execute(String accountNumber, long waitTime, Work work) throws Throwable {
+        Task task = new Task(work);
+        Shard shard = shards[Math.floorMod(accountNumber.hashCode(), shards.length)];
+
+        if (!running || !shard.queue.offer(task)) {
+            throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+        }
+
+        try {
+            return task.result.get(waitTime, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (task.cancel()) {
+                log.error("======Shard wait timeout===== accountNumber : {}", accountNumber);
+                throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+            }
+            return getResult(task);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object getResult(Task task) throws Throwable {
+        try {
+            return task.result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void run(Shard shard) {
+        List<Task> batch = new ArrayList<>(batchSize);
+
+        while (running || !shard.queue.isEmpty()) {
+            try {
+                Task first = shard.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                shard.queue.drainTo(batch, batchSize - 1);
+                batch.removeIf(task -> !task.start());
+                if (!batch.isEmpty()) {
+                    executeBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void executeBatch(List<Task> batch) {
+        if (batch.size() > 1) {
+            List<Outcome> outcomes = new ArrayList<>(batch.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(
+                        task -> outcomes.add(Outcome.of(task.work))));
+            } catch (Exception e) {
+                log.warn("Shard batch commit failed, retry one by one. size = {}", batch.size(), e);
+                batch.forEach(this::executeAlone);
+                return;
+            }
+
+            // 커밋된 이후에 호출자에게 결과를 알린다.
+            for (int i = 0; i < batch.size(); i++) {
+                outcomes.get(i).complete(batch.get(i).result);
+            }
+            return;
+        }
+
+        executeAlone(batch.get(0));
+    }
+
+    // 작업 메서드의 @Transactional 이 자신의 트랜잭션에서 실행한다.
+    private void executeAlone(Task task) {
+        try {
+            task.result.complete(task.work.run());
+        } catch (Throwable e) {
+            task.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * shard 스레드에서 실행할 작업 (AOP joinPoint.proceed 처럼 Throwable 을 던질 수 있다)
+     */
+    @FunctionalInterface
+    public interface Work {
+        Object run() throws Throwable;
+    }
+
+    private final class Shard {
+        private final BlockingQueue<Task> queue;
+        private final Thread thread;
+
+        private Shard(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(() -> ShardedBalanceEngine.this.run(this), "balance-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+    }
+
+    private static final class Task {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        private final Work work;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Task(Work work) {
+            this.work = work;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(PENDING, RUNNING);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+    }
+
+    // 작업 결과 또는 예외 (AccountException 은 트랜잭션을 롤백 마킹하지 않으므로 배치를 계속 진행한다)
+    private record Outcome(Object value, Throwable error) {
+        private static Outcome of(Work work) {
+            try {
+                return new Outcome(work.run(), null);
+            } catch (AccountException e) {
+                return new Outcome(null, e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void complete(CompletableFuture<Object> future) {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.zerobase.account.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식의 시간순 거래 ID 생성기
+ * 64bit = 0 | 41bit 밀리초 (2023-01-01 기준) | 10bit 노드 ID | 12bit 시퀀스
+ * 같은 밀리초 안에서는 시퀀스를 증가시키고, 시퀀스가 넘치거나 시계가 뒤로 가면 이전 값에 이어서 증가시켜
+ * 노드 안에서는 항상 단조 증가한다. 문자열은 고정 13자리 Crockford base32 라서 사전순 = 생성순이다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.transaction-id", name = "generator", havingValue = "time-ordered", matchIfMissing = true)
+public class TimeOrderedTransactionIdGenerator implements TransactionIdGenerator {
+    private static final long EPOCH = 1672531200000L; // 2023-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int ID_LENGTH = 13;
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+
+    // (밀리초 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TimeOrderedTransactionIdGenerator(
+            @Value("${account.transaction-id.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "account.transaction-id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String generate() {
+        long state = nextState();
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+
+        return encode((timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence);
+    }
+
+    private long nextState() {
+        long now = System.currentTimeMillis() - EPOCH;
+
+        while (true) {
+            long last = lastState.get();
+            long next = now > (last >>> SEQUENCE_BITS)
+                    ? now << SEQUENCE_BITS
+                    : last + 1; // 같은 밀리초 (시퀀스 초과 시 다음 밀리초로 넘어감)
+
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static String encode(long id) {
+        char[] chars = new char[ID_LENGTH];
+        for (int i = ID_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
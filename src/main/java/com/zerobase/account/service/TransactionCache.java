@@ -0,0 +1,73 @@
+package com.zerobase.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.account.dto.TransactionDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 거래 조회 캐시
+ * 거래 내역은 저장된 이후 바뀌지 않으므로 transactionId 로 캐싱한다. (Caffeine W-TinyLFU, 크기 + TTL 제한)
+ * 적중/미스 지표는 cache.gets{cache="transaction"} 로 노출된다.
+ */
+@Component
+public class TransactionCache implements MeterBinder {
+    private static final String CACHE_NAME = "transaction";
+
+    private final AsyncCache<String, TransactionDto> cache;
+
+    public TransactionCache(
+            @Value("${account.cache.transaction.maximum-size:10000}") long maximumSize,
+            @Value("${account.cache.transaction.expire-after-write:600000}") long expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해서 캐싱한다. (없는 거래는 캐싱하지 않음)
+     */
+    public Optional<TransactionDto> get(String transactionId,
+                                        Supplier<Optional<TransactionDto>> loader) {
+        return Optional.ofNullable(
+                CacheLoader.get(cache, transactionId, () -> loader.get().orElse(null)));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 캐싱한다. (롤백된 거래가 캐시에 남지 않도록)
+     */
+    public void putAfterCommit(TransactionDto transactionDto) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(transactionDto);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(transactionDto);
+            }
+        });
+    }
+
+    private void put(TransactionDto transactionDto) {
+        cache.synchronous().put(transactionDto.getTransactionId(), transactionDto);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), CACHE_NAME);
+    }
+}
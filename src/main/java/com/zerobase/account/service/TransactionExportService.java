@@ -0,0 +1,116 @@
+package com.zerobase.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.TransactionExport;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 거래 내역 일괄 내보내기 (NDJSON / CSV)
+ * 거래를 forward-only 스트림으로 읽어 바로 응답에 쓰고, clearInterval 건마다 영속성 컨텍스트를 비운다.
+ * 결과 건수와 관계없이 메모리에는 clearInterval 건과 출력 버퍼만 남는다.
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public TransactionExportService(TransactionRepository transactionRepository,
+                                    AccountRepository accountRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${account.export.clear-interval:1000}") int clearInterval) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * 응답을 쓰기 시작하기 전에 하는 검증 (기간, 계좌)
+     * 스트리밍이 시작된 뒤에는 에러 응답을 보낼 수 없으므로 컨트롤러에서 먼저 호출한다.
+     */
+    @Transactional(readOnly = true)
+    public TransactionExport.Criteria getCriteria(LocalDateTime from, LocalDateTime to,
+                                                  String accountNumber) {
+        if (!from.isBefore(to)) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        if (accountNumber == null) {
+            return new TransactionExport.Criteria(from, to, null);
+        }
+
+        return new TransactionExport.Criteria(from, to,
+                accountRepository.findByAccountNumber(accountNumber)
+                        .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND))
+                        .getId());
+    }
+
+    /**
+     * @return 내보낸 거래 건수
+     */
+    @Transactional(readOnly = true)
+    public long export(TransactionExport.Criteria criteria, TransactionExport.Format format,
+                       OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == TransactionExport.Format.CSV) {
+            writer.write(TransactionExport.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<Transaction> transactions = stream(criteria)) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                TransactionExport.Row row = TransactionExport.Row.from(iterator.next());
+                writer.write(format == TransactionExport.Format.CSV
+                        ? row.toCsv()
+                        : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+
+                if (++count % clearInterval == 0) {
+                    entityManager.clear(); // 읽은 거래와 계좌를 영속성 컨텍스트에서 제거
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("Transactions exported. criteria = {}, format = {}, count = {}",
+                criteria, format, count);
+        return count;
+    }
+
+    private Stream<Transaction> stream(TransactionExport.Criteria criteria) {
+        if (criteria.accountId() == null) {
+            return transactionRepository.streamByTransactedAt(criteria.from(), criteria.to());
+        }
+
+        return transactionRepository.streamByAccountIdAndTransactedAt(
+                criteria.accountId(), criteria.from(), criteria.to());
+    }
+}
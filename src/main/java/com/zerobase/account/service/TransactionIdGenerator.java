@@ -0,0 +1,11 @@
+package com.zerobase.account.service;
+
+/**
+ * 거래 ID 생성기
+ * account.transaction-id.generator 설정으로 구현체를 선택한다.
+ * - time-ordered : 시간순으로 증가하는 13자리 ID (기본값)
+ * - uuid : 하이픈을 제거한 랜덤 UUID
+ */
+public interface TransactionIdGenerator {
+    String generate();
+}
@@ -1,23 +1,35 @@
 package com.zerobase.account.service;
 
+import com.zerobase.account.aop.AccountLock;
 import com.zerobase.account.domain.Account;
 import com.zerobase.account.domain.AccountUser;
 import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.CancelBalance;
 import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.TransactionHistory;
+import com.zerobase.account.dto.TransactionHistoryView;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.dto.UseBalanceBatch;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.repository.AccountRepository;
 import com.zerobase.account.repository.AccountUserRepository;
 import com.zerobase.account.repository.TransactionRepository;
+import com.zerobase.account.service.LedgerBalanceService.LedgerBalance;
+import com.zerobase.account.type.ErrorCode;
 import com.zerobase.account.type.TransactionResultType;
 import com.zerobase.account.type.TransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 import static com.zerobase.account.type.AccountStatus.IN_USE;
 import static com.zerobase.account.type.ErrorCode.*;
@@ -31,26 +43,67 @@ import static com.zerobase.account.type.TransactionType.USE;
 @Service
 @Transactional(readOnly = true)
 public class TransactionService {
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AccountUserRepository accountUserRepository;
     private final AccountRepository accountRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionCache transactionCache;
+    private final AccountListCache accountListCache;
+    private final LedgerWriter ledgerWriter;
+    private final LedgerBalanceService ledgerBalanceService;
 
-    @Transactional
-    public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
-        AccountUser accountUser = accountUserRepository.findById(userId)
+    /**
+     * 락을 잡기 전에 하는 검증 (사용자 조회, 소유주, 계좌 상태, 잔액)
+     * 실패할 요청은 다른 요청을 막지 않고 여기서 끝난다. 잔액은 락 안에서 다시 확인한다.
+     */
+    public void validateUseBalance(UseBalance.Request request) {
+        AccountUser accountUser = accountUserRepository.findById(request.getUserId())
                 .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
 
-        Account account = getAccount(accountNumber);
+        Account account = getAccount(request.getAccountNumber());
+
+        validateUseBalance(accountUser.getId(), account, getBalance(account), request.getAmount());
+    }
+
+    /**
+     * 락 구간 : 계좌를 다시 읽어 상태와 잔액을 확인하고 잔액 변경, 거래 내역 저장까지만 한다.
+     * validateUseBalance(request) 를 먼저 통과한 요청만 호출한다.
+     */
+    // AccountException 은 잔액 변경 전에 발생하므로, 바깥 트랜잭션(row 락)에 참여한 경우에도
+    // 롤백 마킹을 하지 않아야 unlock 에서 락 트랜잭션을 정상 커밋할 수 있다.
+    @AccountLock
+    @Transactional(noRollbackFor = AccountException.class)
+    public TransactionDto useBalance(UseBalance.Request request) {
+        return applyUseBalance(request);
+    }
+
+    /**
+     * useBalance 에서 락만 뺀 버전. 호출자가 계좌 락을 잡고 있어야 한다. (reactive 엔드포인트)
+     */
+    @Transactional(noRollbackFor = AccountException.class)
+    public TransactionDto applyUseBalance(UseBalance.Request request) {
+        Account account = getAccount(request.getAccountNumber());
+        accountListCache.evictAfterCommit(request.getUserId());
 
-        validateUseBalance(accountUser, account, amount);
+        if (ledgerBalanceService.isEnabled()) {
+            LedgerBalance balance = ledgerBalanceService.getBalance(account);
+            validateUseBalance(request.getUserId(), account, balance.balance(), request.getAmount());
 
-        account.useBalance(amount);
+            return cacheAndGet(appendAndGetTransaction(USE, request.getAmount(), account,
+                    balance.apply(-request.getAmount())));
+        }
+
+        validateUseBalance(request.getUserId(), account, account.getBalance(), request.getAmount());
 
-        return TransactionDto.fromEntity(saveAndGetTransaction(USE, S, amount, account));
+        account.useBalance(request.getAmount());
+
+        return cacheAndGet(saveAndGetTransaction(USE, S, request.getAmount(), account));
     }
 
-    private void validateUseBalance(AccountUser accountUser, Account account, Long amount) {
-        if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
+    private void validateUseBalance(Long userId, Account account, long balance, Long amount) {
+        if (!Objects.equals(userId, account.getAccountUser().getId())) {
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
 
@@ -58,36 +111,125 @@ public class TransactionService {
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
 
-        if (account.getBalance() < amount) {
+        if (balance < amount) {
             throw new AccountException(AMOUNT_EXCEED_BALANCE);
         }
     }
 
+    /**
+     * 한 계좌에 대한 잔액 사용 요청들을 하나의 락, 하나의 트랜잭션에서 순서대로 처리한다.
+     * 검증에 실패한 요청은 F 거래로 기록하고, 거래 내역은 한 번에 배치 insert 한다.
+     * ledger 모드에서는 계좌를 고치지 않고 성공 거래마다 다음 순번으로 append 한다.
+     */
+    @AccountLock
     @Transactional
+    public List<TransactionDto> useBalanceBatch(UseBalanceBatch.AccountItems accountItems) {
+        Account account = getAccount(accountItems.getAccountNumber());
+        boolean ledger = ledgerBalanceService.isEnabled();
+        LedgerBalance balance = ledger
+                ? ledgerBalanceService.getBalance(account)
+                : new LedgerBalance(account.getBalance(), 0L);
+
+        List<Transaction> transactions = new ArrayList<>();
+        List<ErrorCode> errorCodes = new ArrayList<>();
+
+        for (UseBalance.Request item : accountItems.getItems()) {
+            try {
+                // 같은 사용자는 영속성 컨텍스트에서 조회되므로 한 번만 쿼리가 나간다.
+                AccountUser accountUser = accountUserRepository.findById(item.getUserId())
+                        .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+
+                validateUseBalance(accountUser.getId(), account, balance.balance(), item.getAmount());
+
+                balance = balance.apply(-item.getAmount());
+                if (!ledger) {
+                    account.useBalance(item.getAmount());
+                }
+
+                transactions.add(createTransaction(USE, S, item.getAmount(), account,
+                        balance.balance(), ledger ? balance.seq() : null));
+                errorCodes.add(null);
+            } catch (AccountException e) {
+                transactions.add(createTransaction(USE, F, item.getAmount(), account,
+                        balance.balance(), null));
+                errorCodes.add(e.getErrorCode());
+            }
+        }
+
+        if (ledger) {
+            ledgerBalanceService.append(transactions);
+        } else {
+            transactionRepository.saveAll(transactions);
+        }
+        accountListCache.evictAfterCommit(account.getAccountUser().getId());
+
+        List<TransactionDto> transactionDtos = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            cacheAndGet(transactions.get(i));
+            transactionDtos.add(TransactionDto.fromEntity(transactions.get(i), errorCodes.get(i)));
+        }
+        return transactionDtos;
+    }
+
+    // FailedTransactionRecorder 워커에서 호출되며, 커밋을 기다리지 않고 group commit 큐에 넣는다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void saveFailedUseTransaction(String accountNumber, Long amount) {
         Account account = getAccount(accountNumber);
-        saveAndGetTransaction(USE, F, amount, account);
+        appendFailedTransaction(createTransaction(USE, F, amount, account, getBalance(account), null));
     }
 
-    @Transactional
-    public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
-        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
+    /**
+     * 락을 잡기 전에 하는 검증 (원 거래 조회, 계좌, 취소 금액, 거래 일시)
+     */
+    public void validateCancelBalance(CancelBalance.Request request) {
+        TransactionDto transaction = getTransaction(request.getTransactionId());
 
-        Account account = getAccount(accountNumber);
+        Account account = getAccount(request.getAccountNumber());
+
+        validateCancelBalance(transaction, account, request.getAmount());
+    }
+
+    /**
+     * 락 구간 : 계좌를 다시 읽어 잔액 변경, 거래 내역 저장까지만 한다.
+     * 원 거래는 validateCancelBalance(request) 에서 캐시에 올라와 있으므로 다시 검증해도 쿼리가 나가지 않는다.
+     */
+    @AccountLock
+    @Transactional(noRollbackFor = AccountException.class)
+    public TransactionDto cancelBalance(CancelBalance.Request request) {
+        return applyCancelBalance(request);
+    }
+
+    /**
+     * cancelBalance 에서 락만 뺀 버전. 호출자가 계좌 락을 잡고 있어야 한다. (reactive 엔드포인트)
+     */
+    @Transactional(noRollbackFor = AccountException.class)
+    public TransactionDto applyCancelBalance(CancelBalance.Request request) {
+        TransactionDto transaction = getTransaction(request.getTransactionId());
 
-        validateCancelBalance(transaction, account, amount);
+        Account account = getAccount(request.getAccountNumber());
 
-        account.cancelBalance(amount);
+        validateCancelBalance(transaction, account, request.getAmount());
+        accountListCache.evictAfterCommit(account.getAccountUser().getId());
 
-        return TransactionDto.fromEntity(saveAndGetTransaction(CANCEL, S, amount, account));
+        if (ledgerBalanceService.isEnabled()) {
+            return cacheAndGet(appendAndGetTransaction(CANCEL, request.getAmount(), account,
+                    ledgerBalanceService.getBalance(account).apply(request.getAmount())));
+        }
+
+        account.cancelBalance(request.getAmount());
+
+        return cacheAndGet(saveAndGetTransaction(CANCEL, S, request.getAmount(), account));
     }
 
-    private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
-        if (!Objects.equals(transaction.getAccount().getId(), account.getId())) {
+    private void validateCancelBalance(TransactionDto transaction, Account account, Long amount) {
+        if (!Objects.equals(transaction.getAccountNumber(), account.getAccountNumber())) {
             throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
         }
 
+        if (account.getAccountStatus() != IN_USE) { // 해지된 계좌에는 취소 금액을 돌려주지 않는다.
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+
         if (!Objects.equals(transaction.getAmount(), amount)) { // 거래 금액과 거래 취소 금액이 다른 경우
             throw new AccountException(CANCEL_MUST_FULLY);
         }
@@ -97,32 +239,128 @@ public class TransactionService {
         }
     }
 
-    @Transactional
+    // FailedTransactionRecorder 워커에서 호출되며, 커밋을 기다리지 않고 group commit 큐에 넣는다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void saveFailedCancelTransaction(String accountNumber, Long amount) {
         Account account = getAccount(accountNumber);
-        saveAndGetTransaction(CANCEL, F, amount, account);
+        appendFailedTransaction(createTransaction(CANCEL, F, amount, account, getBalance(account), null));
     }
 
+    // 캐시에 있으면 커넥션을 잡지 않도록 트랜잭션을 시작하지 않는다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TransactionDto queryTransaction(String transactionId) {
-        return TransactionDto.fromEntity(
-                transactionRepository.findByTransactionId(transactionId)
-                        .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+        return getTransaction(transactionId);
+    }
+
+    /**
+     * 계좌별 거래 내역 (최신 거래부터, keyset 페이지)
+     * size + 1 건을 읽어 다음 페이지가 있는지 확인한다. (count 쿼리 없음)
+     */
+    public TransactionHistory.Response getTransactionHistory(String accountNumber,
+                                                             TransactionType transactionType,
+                                                             TransactionResultType transactionResultType,
+                                                             String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        Account account = getAccount(accountNumber);
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<TransactionHistoryView> transactions;
+        if (cursor == null) {
+            transactions = transactionRepository.findHistory(
+                    account.getId(), transactionType, transactionResultType, pageable);
+        } else {
+            TransactionHistory.Cursor after = TransactionHistory.Cursor.decode(cursor);
+            transactions = transactionRepository.findHistoryAfter(
+                    account.getId(), after.transactedAt(), after.id(),
+                    transactionType, transactionResultType, pageable);
+        }
+
+        boolean hasNext = transactions.size() > size;
+        List<TransactionHistoryView> page = hasNext ? transactions.subList(0, size) : transactions;
+
+        return TransactionHistory.Response.builder()
+                .accountNumber(accountNumber)
+                .transactions(page.stream().map(TransactionHistory.Item::from).toList())
+                .nextCursor(hasNext
+                        ? TransactionHistory.Cursor.from(page.get(size - 1)).encode()
+                        : null)
+                .build();
+    }
+
+    private TransactionDto getTransaction(String transactionId) {
+        return transactionCache.get(transactionId,
+                        () -> transactionRepository.findViewByTransactionId(transactionId)
+                                .map(TransactionDto::fromView))
+                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
+    }
+
+    private TransactionDto cacheAndGet(Transaction transaction) {
+        TransactionDto transactionDto = TransactionDto.fromEntity(transaction);
+        transactionCache.putAfterCommit(transactionDto);
+        return transactionDto;
+    }
+
+    private void appendFailedTransaction(Transaction transaction) {
+        ledgerWriter.append(transaction).whenComplete((saved, e) -> {
+            if (e != null) {
+                log.error("Failed to save failed transaction. transactionId = {}",
+                        transaction.getTransactionId(), e);
+            }
+        });
     }
 
     private Transaction saveAndGetTransaction(TransactionType transactionType,
                                               TransactionResultType transactionResultType,
                                               Long amount,
                                               Account account) {
-        return transactionRepository.save(Transaction.builder()
+        return transactionRepository.save(
+                createTransaction(transactionType, transactionResultType, amount, account));
+    }
+
+    // ledger 모드 : 계좌 row 대신 다음 순번의 거래를 append 한다. (순번 충돌 시 낙관적 락 재시도)
+    private Transaction appendAndGetTransaction(TransactionType transactionType,
+                                                Long amount,
+                                                Account account,
+                                                LedgerBalance after) {
+        Transaction transaction = createTransaction(transactionType, S, amount, account,
+                after.balance(), after.seq());
+        ledgerBalanceService.append(List.of(transaction));
+        return transaction;
+    }
+
+    private Transaction createTransaction(TransactionType transactionType,
+                                          TransactionResultType transactionResultType,
+                                          Long amount,
+                                          Account account) {
+        return createTransaction(transactionType, transactionResultType, amount, account,
+                account.getBalance(), null);
+    }
+
+    private Transaction createTransaction(TransactionType transactionType,
+                                          TransactionResultType transactionResultType,
+                                          Long amount,
+                                          Account account,
+                                          Long balanceSnapshot,
+                                          Long ledgerSeq) {
+        return Transaction.builder()
                 .transactionType(transactionType)
                 .transactionResultType(transactionResultType)
                 .account(account)
                 .amount(amount)
-                .balanceSnapshot(account.getBalance())
-                // UUID는 중간에 데쉬가 두개 들어가는데 이를 제거하여 많이 사용함
-                .transactionId(UUID.randomUUID().toString().replace("-", ""))
+                .balanceSnapshot(balanceSnapshot)
+                .transactionId(transactionIdGenerator.generate())
                 .transactedAt(LocalDateTime.now())
-                .build());
+                .ledgerSeq(ledgerSeq)
+                .build();
+    }
+
+    private long getBalance(Account account) {
+        return ledgerBalanceService.isEnabled()
+                ? ledgerBalanceService.getBalance(account).balance()
+                : account.getBalance();
     }
 
     private Account getAccount(String accountNumber) {
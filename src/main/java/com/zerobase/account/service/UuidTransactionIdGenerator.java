@@ -0,0 +1,16 @@
+package com.zerobase.account.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(prefix = "account.transaction-id", name = "generator", havingValue = "uuid")
+public class UuidTransactionIdGenerator implements TransactionIdGenerator {
+    @Override
+    public String generate() {
+        // UUID는 중간에 데쉬가 두개 들어가는데 이를 제거하여 많이 사용함
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -1,5 +1,6 @@
 package com.zerobase.account.type;
 
 public enum TransactionType {
-    USE, CANCEL
+    USE, CANCEL,
+    CLOSE // ledger 모드 계좌 해지 (금액 0, 마지막 순번)
 }
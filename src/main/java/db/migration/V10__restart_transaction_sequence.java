@@ -0,0 +1,34 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * V4 의 transaction_seq 는 1 부터 시작하므로 기존 거래 내역이 있으면 새 거래 id 가 겹친다.
+ * pooled-lo 는 시퀀스 값을 블록의 시작 id 로 쓰므로 max(id) + 1 에서 다시 시작하면 된다. (거래가 없으면 그대로 둔다)
+ */
+public class V10__restart_transaction_sequence extends BaseJavaMigration {
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            Long maxId = getMaxId(statement);
+            if (maxId == null) {
+                return;
+            }
+
+            statement.execute("alter sequence transaction_seq restart with " + (maxId + 1));
+        }
+    }
+
+    private static Long getMaxId(Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("select max(id) from transaction")) {
+            resultSet.next();
+            long maxId = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : maxId;
+        }
+    }
+}
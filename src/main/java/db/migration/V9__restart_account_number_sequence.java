@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * V2 의 account_number_seq 는 1 부터 시작하므로 기존 계좌가 있으면 첫 블록부터 계좌번호가 겹친다.
+ * 기존 최대 계좌번호 다음 블록에서 시작하도록 시퀀스를 다시 맞춘다. (계좌가 없으면 그대로 둔다)
+ * 블록 크기는 spring.flyway.placeholders.account-number-block-size (account.number.block-size) 를 따른다.
+ */
+public class V9__restart_account_number_sequence extends BaseJavaMigration {
+    private static final long FIRST_ACCOUNT_NUMBER = 1_000_000_000L;
+    private static final String BLOCK_SIZE_PLACEHOLDER = "account-number-block-size";
+    private static final long DEFAULT_BLOCK_SIZE = 100L;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        long blockSize = getBlockSize(context);
+
+        try (Statement statement = context.getConnection().createStatement()) {
+            Long maxAccountNumber = getMaxAccountNumber(statement);
+            if (maxAccountNumber == null || maxAccountNumber < FIRST_ACCOUNT_NUMBER) {
+                return;
+            }
+
+            // AccountNumberGenerator : 블록 hi 의 시작 번호 = 1000000000 + (hi - 1) * blockSize
+            long hi = (maxAccountNumber - FIRST_ACCOUNT_NUMBER) / blockSize + 2;
+            statement.execute("alter sequence account_number_seq restart with " + hi);
+        }
+    }
+
+    private static long getBlockSize(Context context) {
+        String blockSize = context.getConfiguration().getPlaceholders().get(BLOCK_SIZE_PLACEHOLDER);
+        return blockSize == null ? DEFAULT_BLOCK_SIZE : Long.parseLong(blockSize);
+    }
+
+    private static Long getMaxAccountNumber(Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(
+                "select max(cast(account_number as bigint)) from account")) {
+            resultSet.next();
+            long maxAccountNumber = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : maxAccountNumber;
+        }
+    }
+}
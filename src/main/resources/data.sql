@@ -3,4 +3,6 @@ values(1, 'Pororo', now(), now());
 insert into account_user(id, name, created_at, updated_at)
 values(2, 'Lupi', now(), now());
 insert into account_user(id, name, created_at, updated_at)
-values(3, 'Eddie', now(), now());
\ No newline at end of file
+values(3, 'Eddie', now(), now());
+-- 계좌번호 블록 발급용 시퀀스 (AccountNumberGenerator)
+create sequence if not exists account_number_seq start with 1 increment by 1;
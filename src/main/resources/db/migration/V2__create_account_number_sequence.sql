@@ -0,0 +1,3 @@
+-- 계좌번호 블록 발급용 시퀀스 (AccountNumberGenerator)
+-- 기존 계좌가 있는 경우 (max(account_number) - 1000000000) / block-size + 2 이상으로 시작해야 한다.
+create sequence if not exists account_number_seq start with 1 increment by 1;
@@ -0,0 +1,5 @@
+-- 거래 ID 조회 (cancelBalance, queryTransaction)
+create unique index if not exists ux_transaction_transaction_id on transaction (transaction_id);
+
+-- 계좌별 거래 조회
+create index if not exists ix_transaction_account_id_transacted_at on transaction (account_id, transacted_at);
@@ -0,0 +1,3 @@
+-- 거래 내역 id 시퀀스 (Transaction, pooled-lo / allocationSize 50)
+-- 기존 거래 내역이 있는 경우 max(id) + 1 이상으로 시작해야 한다.
+create sequence if not exists transaction_seq start with 1 increment by 50;
@@ -0,0 +1,7 @@
+-- ledger 모드 (account.balance.mode=ledger)
+-- 계좌별 거래 순번, 같은 순번은 한 번만 append 된다.
+alter table transaction add column if not exists ledger_seq bigint;
+create unique index if not exists ux_transaction_account_id_ledger_seq on transaction (account_id, ledger_seq);
+
+-- 스냅샷 : account.balance 에 반영된 마지막 거래 순번
+alter table account add column if not exists snapshot_seq bigint;
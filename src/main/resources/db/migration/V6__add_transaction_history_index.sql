@@ -0,0 +1,6 @@
+-- 계좌별 거래 내역 keyset 페이지 조회 (account_id, transacted_at, id)
+-- 같은 일시의 거래도 id 로 순서가 정해지므로 깊은 페이지도 인덱스에서 바로 이어서 읽는다.
+create index if not exists ix_transaction_account_id_transacted_at_id on transaction (account_id, transacted_at, id);
+
+-- 앞 컬럼이 같은 기존 인덱스는 새 인덱스로 대체한다.
+drop index if exists ix_transaction_account_id_transacted_at;
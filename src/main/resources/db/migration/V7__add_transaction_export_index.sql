@@ -0,0 +1,2 @@
+-- 기간별 거래 내역 내보내기 (전체 계좌, transacted_at, id 순서)
+create index if not exists ix_transaction_transacted_at_id on transaction (transacted_at, id);
@@ -0,0 +1,3 @@
+-- 낙관적 락 버전 (Account @Version)
+-- 기존 계좌는 0 에서 시작한다. (null 이면 Hibernate 가 버전 비교에 실패한다)
+alter table account add column if not exists version bigint not null default 0;
@@ -0,0 +1,229 @@
+package com.zerobase.account.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.account.config.ReactiveConfig;
+import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.service.FailedTransactionRecorder;
+import com.zerobase.account.service.ReactiveLockService;
+import com.zerobase.account.service.TransactionService;
+import com.zerobase.account.type.ErrorCode;
+import com.zerobase.account.type.TransactionResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = ReactiveTransactionController.class, properties = "account.reactive.enabled=true")
+class ReactiveTransactionControllerTest {
+    private static final long LOCK_ID = -1L;
+
+    @MockBean
+    TransactionService transactionService;
+
+    @MockBean
+    FailedTransactionRecorder failedTransactionRecorder;
+
+    @MockBean
+    ReactiveLockService reactiveLockService;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @TestConfiguration
+    static class JdbcSchedulerConfig {
+        @Bean
+        Scheduler jdbcScheduler() {
+            return Schedulers.immediate();
+        }
+
+        @Bean
+        Retry optimisticRetry() {
+            return new ReactiveConfig().optimisticRetry(2, 1);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(reactiveLockService.lock(anyString(), anyLong()))
+                .willReturn(Mono.just(LOCK_ID));
+        given(reactiveLockService.unlock(anyString(), anyLong()))
+                .willReturn(Mono.empty());
+    }
+
+    @Test
+    void successUseBalance() throws Exception {
+        // given
+        given(transactionService.applyUseBalance(any()))
+                .willReturn(TransactionDto.builder()
+                        .accountNumber("1000000000")
+                        .transactionResultType(TransactionResultType.S)
+                        .transactionId("transactionId")
+                        .amount(12345L)
+                        .transactedAt(LocalDateTime.now())
+                        .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+                .andExpect(jsonPath("$.transactionResult").value("S"))
+                .andExpect(jsonPath("$.transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.amount").value(12345L));
+        verify(reactiveLockService, times(1)).lock(eq("1000000000"), anyLong());
+        verify(reactiveLockService, times(1)).unlock("1000000000", LOCK_ID);
+        verify(failedTransactionRecorder, times(0)).recordUse(anyString(), anyLong());
+    }
+
+    @Test
+    void failUseBalanceRecordsFailedTransaction() throws Exception {
+        // given
+        given(transactionService.applyUseBalance(any()))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("AMOUNT_EXCEED_BALANCE"));
+        verify(failedTransactionRecorder, times(1)).recordUse("1000000000", 12345L);
+        verify(reactiveLockService, times(1)).unlock("1000000000", LOCK_ID);
+    }
+
+    @Test
+    void unlockOnUnexpectedError() throws Exception {
+        // given
+        given(transactionService.applyUseBalance(any()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isInternalServerError());
+        verify(reactiveLockService, times(1)).unlock("1000000000", LOCK_ID);
+        verify(failedTransactionRecorder, times(0)).recordUse(anyString(), anyLong());
+    }
+
+    @Test
+    void failUseBalanceLockNotAcquired() throws Exception {
+        // given
+        given(reactiveLockService.lock(anyString(), anyLong()))
+                .willReturn(Mono.error(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK)));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("ACCOUNT_TRANSACTION_LOCK"));
+        verify(transactionService, times(0)).applyUseBalance(any());
+        verify(reactiveLockService, times(0)).unlock(anyString(), anyLong());
+        verify(failedTransactionRecorder, times(1)).recordUse("1000000000", 12345L);
+    }
+
+    @Test
+    void retryUseBalanceOnOptimisticLockConflict() throws Exception {
+        // given
+        given(transactionService.applyUseBalance(any()))
+                .willThrow(new OptimisticLockingFailureException("version conflict"))
+                .willReturn(TransactionDto.builder()
+                        .accountNumber("1000000000")
+                        .transactionResultType(TransactionResultType.S)
+                        .transactionId("transactionId")
+                        .amount(12345L)
+                        .transactedAt(LocalDateTime.now())
+                        .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then : 락을 놓고 다시 잡은 뒤 성공
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionResult").value("S"));
+        verify(transactionService, times(2)).applyUseBalance(any());
+        verify(reactiveLockService, times(2)).lock(eq("1000000000"), anyLong());
+        verify(reactiveLockService, times(2)).unlock("1000000000", LOCK_ID);
+    }
+
+    @Test
+    void failUseBalanceOptimisticRetryExhausted() throws Exception {
+        // given
+        given(transactionService.applyUseBalance(any()))
+                .willThrow(new OptimisticLockingFailureException("version conflict"));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/reactive/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalance.Request(1L, "1000000000", 12345L))))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("ACCOUNT_TRANSACTION_LOCK"));
+        verify(transactionService, times(2)).applyUseBalance(any());
+        verify(failedTransactionRecorder, times(1)).recordUse("1000000000", 12345L);
+    }
+}
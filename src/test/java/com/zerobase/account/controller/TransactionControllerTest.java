@@ -3,8 +3,15 @@ package com.zerobase.account.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zerobase.account.dto.CancelBalance;
 import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.TransactionExport;
+import com.zerobase.account.dto.TransactionHistory;
 import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.dto.UseBalanceBatch;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.service.FailedTransactionRecorder;
+import com.zerobase.account.service.TransactionExportService;
 import com.zerobase.account.service.TransactionService;
+import com.zerobase.account.type.ErrorCode;
 import com.zerobase.account.type.TransactionResultType;
 import com.zerobase.account.type.TransactionType;
 import org.junit.jupiter.api.Test;
@@ -13,15 +20,28 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +50,12 @@ class TransactionControllerTest {
     @MockBean
     TransactionService transactionService;
 
+    @MockBean
+    TransactionExportService transactionExportService;
+
+    @MockBean
+    FailedTransactionRecorder failedTransactionRecorder;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -39,7 +65,7 @@ class TransactionControllerTest {
     @Test
     void successUseBalance() throws Exception {
         // given
-        given(transactionService.useBalance(anyLong(), anyString(), anyLong()))
+        given(transactionService.useBalance(any()))
                 .willReturn(TransactionDto.builder()
                         .accountNumber("1000000000")
                         .transactionResultType(TransactionResultType.S)
@@ -62,10 +88,57 @@ class TransactionControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    void successUseBalanceBatch() throws Exception {
+        // given
+        given(transactionService.useBalanceBatch(any()))
+                .willReturn(List.of(
+                        TransactionDto.builder()
+                                .accountNumber("1000000000")
+                                .transactionResultType(TransactionResultType.S)
+                                .transactionId("transactionId1")
+                                .amount(1000L)
+                                .transactedAt(LocalDateTime.now())
+                                .build(),
+                        TransactionDto.builder()
+                                .accountNumber("1000000000")
+                                .transactionResultType(TransactionResultType.F)
+                                .transactionId("transactionId2")
+                                .amount(2000L)
+                                .transactedAt(LocalDateTime.now())
+                                .errorCode(ErrorCode.AMOUNT_EXCEED_BALANCE)
+                                .build()))
+                .willThrow(new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        // when
+        // then
+        mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalanceBatch.Request(List.of(
+                                        new UseBalance.Request(1L, "1000000000", 1000L),
+                                        new UseBalance.Request(1L, "1000000001", 3000L),
+                                        new UseBalance.Request(1L, "1000000000", 2000L))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].transactionResult").value("S"))
+                .andExpect(jsonPath("$.results[0].transactionId").value("transactionId1"))
+                .andExpect(jsonPath("$.results[1].accountNumber").value("1000000001"))
+                .andExpect(jsonPath("$.results[1].transactionResult").value("F"))
+                .andExpect(jsonPath("$.results[1].errorCode").value("ACCOUNT_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[2].transactionResult").value("F"))
+                .andExpect(jsonPath("$.results[2].transactionId").value("transactionId2"))
+                .andExpect(jsonPath("$.results[2].errorCode").value("AMOUNT_EXCEED_BALANCE"))
+                .andDo(print());
+
+        // 계좌 단위로 실패한 건만 F 거래로 기록 (검증 실패 건은 서비스가 배치 안에서 기록)
+        verify(failedTransactionRecorder, times(1)).recordUse("1000000001", 3000L);
+        verify(failedTransactionRecorder, times(1)).recordUse(anyString(), anyLong());
+    }
+
     @Test
     void successCancelBalance() throws Exception {
         // given
-        given(transactionService.cancelBalance(anyString(), anyString(), anyLong()))
+        given(transactionService.cancelBalance(any()))
                 .willReturn(TransactionDto.builder()
                         .accountNumber("1000000000")
                         .transactionResultType(TransactionResultType.S)
@@ -112,4 +185,82 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.transactionId").value("transactionId"))
                 .andExpect(jsonPath("$.amount").value(12345L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void successGetTransactionHistory() throws Exception {
+        // given
+        given(transactionService.getTransactionHistory(eq("1000000000"), eq(TransactionType.USE),
+                isNull(), isNull(), eq(20)))
+                .willReturn(TransactionHistory.Response.builder()
+                        .accountNumber("1000000000")
+                        .transactions(List.of(TransactionHistory.Item.builder()
+                                .transactionType(TransactionType.USE)
+                                .transactionResult(TransactionResultType.S)
+                                .transactionId("transactionId")
+                                .amount(1000L)
+                                .balanceSnapshot(9000L)
+                                .transactedAt(LocalDateTime.now())
+                                .build()))
+                        .nextCursor("nextCursor")
+                        .build());
+
+        // when
+        // then
+        mockMvc.perform(get("/account/1000000000/transactions?transaction_type=USE"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+                .andExpect(jsonPath("$.transactions[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.transactions[0].balanceSnapshot").value(9000L))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+    }
+
+    @Test
+    void successExportTransactions() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2023, 10, 13, 0, 0);
+        TransactionExport.Criteria criteria =
+                new TransactionExport.Criteria(from, from.plusDays(1), null);
+        given(transactionExportService.getCriteria(from, from.plusDays(1), null))
+                .willReturn(criteria);
+        given(transactionExportService.export(eq(criteria), eq(TransactionExport.Format.CSV), any()))
+                .willAnswer(invocation -> {
+                    OutputStream outputStream = invocation.getArgument(2);
+                    outputStream.write((TransactionExport.CSV_HEADER + "\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/transaction/export")
+                        .param("from", "2023-10-13T00:00:00")
+                        .param("to", "2023-10-14T00:00:00")
+                        .param("format", "CSV"))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string(TransactionExport.CSV_HEADER + "\n"));
+    }
+
+    @Test
+    void exportTransactionsAsyncTimeout() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2023, 10, 13, 0, 0);
+        given(transactionExportService.getCriteria(from, from.plusDays(1), null))
+                .willReturn(new TransactionExport.Criteria(from, from.plusDays(1), null));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/transaction/export")
+                        .param("from", "2023-10-13T00:00:00")
+                        .param("to", "2023-10-14T00:00:00"))
+                .andReturn();
+
+        // then : 컨테이너 기본값 (30초) 이 아니라 spring.mvc.async.request-timeout 이 적용된다.
+        assertEquals(Duration.ofMinutes(30).toMillis(),
+                mvcResult.getRequest().getAsyncContext().getTimeout());
+    }
+}
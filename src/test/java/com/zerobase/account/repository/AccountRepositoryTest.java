@@ -0,0 +1,66 @@
+package com.zerobase.account.repository;
+
+import com.zerobase.account.domain.Account;
+import com.zerobase.account.domain.AccountUser;
+import com.zerobase.account.type.AccountStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AccountRepositoryTest {
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // data.sql 의 사용자 (id = 1)
+        AccountUser accountUser = entityManager.find(AccountUser.class, 1L);
+        entityManager.persist(Account.builder()
+                .accountUser(accountUser)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(10000L)
+                .registeredAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // 사용자는 2차 캐시에 있으므로 비워야 조인 없이 조회할 때의 추가 select 가 드러난다.
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("계좌번호 조회 시 사용자를 한 번의 select 로 함께 조회")
+    void findByAccountNumberFetchesAccountUser() {
+        // given
+        // when
+        Account account = accountRepository.findByAccountNumber("1000000000").get();
+        Long userId = account.getAccountUser().getId();
+        String name = account.getAccountUser().getName();
+
+        // then
+        assertTrue(Hibernate.isInitialized(account.getAccountUser()));
+        assertEquals(1L, userId);
+        assertEquals("Pororo", name);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.zerobase.account.repository;
+
+import com.zerobase.account.domain.AccountUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AccountUserRepositoryTest {
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("다른 세션에서 같은 사용자를 다시 조회하면 2차 캐시에서 조회")
+    void findAccountUserFromSecondLevelCache() {
+        // given
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        // data.sql 의 사용자 (id = 1) 를 세션 (EntityManager) 을 바꿔 두 번 조회
+        AccountUser first = find(1L);
+        AccountUser second = find(1L);
+
+        // then
+        assertEquals("Pororo", first.getName());
+        assertEquals("Pororo", second.getName());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getSecondLevelCachePutCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private AccountUser find(Long id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(AccountUser.class, id);
+        } finally {
+            entityManager.close();
+        }
+    }
+}
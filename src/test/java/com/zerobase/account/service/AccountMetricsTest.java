@@ -0,0 +1,88 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountMetricsTest {
+    SimpleMeterRegistry registry;
+    AccountMetrics accountMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        accountMetrics = new AccountMetrics(registry, "redis");
+    }
+
+    @Test
+    void recordLock() {
+        // given
+        // when
+        accountMetrics.recordLockWait(TimeUnit.MILLISECONDS.toNanos(30));
+        accountMetrics.recordLockHold(TimeUnit.MILLISECONDS.toNanos(5));
+        accountMetrics.recordLockFailure();
+
+        // then
+        assertEquals(30.0, registry.get("account.lock.wait").tag("provider", "redis")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1L, registry.get("account.lock.hold").timer().count());
+        assertEquals(1.0, registry.get("account.lock.failures").counter().count());
+    }
+
+    @Test
+    void recordRequestTaggedByResultAndErrorCode() {
+        // given
+        // when
+        accountMetrics.recordRequest("TransactionController.useBalance", 1000L, null);
+        accountMetrics.recordRequest("TransactionController.useBalance", 1000L,
+                new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+        accountMetrics.recordRequest("TransactionController.useBalance", 1000L,
+                new IllegalStateException());
+
+        // then
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "S", "error", "NONE").timer().count());
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "F", "error", "ACCOUNT_TRANSACTION_LOCK").timer().count());
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "F", "error", "INTERNAL_SERVER_ERROR").timer().count());
+    }
+
+    @Test
+    void recordRequestItem() {
+        // given
+        // when
+        accountMetrics.recordRequestItem("TransactionController.useBalanceBatch", null);
+        accountMetrics.recordRequestItem("TransactionController.useBalanceBatch", null);
+        accountMetrics.recordRequestItem("TransactionController.useBalanceBatch",
+                ErrorCode.AMOUNT_EXCEED_BALANCE);
+
+        // then
+        assertEquals(2.0, registry.get("account.request.items")
+                .tags("result", "S", "error", "NONE").counter().count());
+        assertEquals(1.0, registry.get("account.request.items")
+                .tags("result", "F", "error", "AMOUNT_EXCEED_BALANCE").counter().count());
+    }
+
+    @Test
+    void registerRequestMeterOncePerEndpointAndError() {
+        // given
+        // when
+        accountMetrics.recordRequest("TransactionController.useBalance", 1000L, null);
+        accountMetrics.recordRequest("TransactionController.useBalance", 1000L, null);
+        accountMetrics.recordRequestCancelled("TransactionController.useBalance", 1000L);
+
+        // then
+        assertEquals(2L, registry.get("account.request")
+                .tags("result", "S", "error", "NONE").timer().count());
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "F", "error", "CANCELLED").timer().count());
+        assertEquals(2, registry.get("account.request").timers().size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberGeneratorTest {
+    private static final String NEXT_BLOCK_QUERY = "select next value for account_number_seq";
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nextInBlock() {
+        // given
+        AccountNumberGenerator accountNumberGenerator = new AccountNumberGenerator(jdbcTemplate, NEXT_BLOCK_QUERY, 2);
+
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(1L, 2L);
+
+        // when
+        // then
+        assertEquals("1000000000", accountNumberGenerator.next());
+        assertEquals("1000000001", accountNumberGenerator.next());
+        assertEquals("1000000002", accountNumberGenerator.next()); // 두 번째 블록
+        verify(jdbcTemplate, times(2)).queryForObject(NEXT_BLOCK_QUERY, Long.class);
+    }
+
+    @Test
+    void uniqueUnderConcurrency() {
+        // given
+        AccountNumberGenerator accountNumberGenerator = new AccountNumberGenerator(jdbcTemplate, NEXT_BLOCK_QUERY, 100);
+
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+
+        // when
+        IntStream.range(0, 1000).parallel()
+                .forEach(i -> accountNumbers.add(accountNumberGenerator.next()));
+
+        // then
+        assertEquals(1000, accountNumbers.size());
+    }
+
+    @Test
+    void failAccountNumberExhausted() {
+        // given
+        AccountNumberGenerator accountNumberGenerator = new AccountNumberGenerator(jdbcTemplate, NEXT_BLOCK_QUERY, 100);
+
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .willReturn(90_000_001L); // 9999999999 를 넘는 블록
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                accountNumberGenerator::next);
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED, exception.getErrorCode());
+    }
+
+    @Test
+    void nextBlockQueryFromDialect() {
+        // given
+        // when
+        // then
+        assertTrue(AccountNumberGenerator.nextBlockQuery(new H2Dialect())
+                .contains("next value for account_number_seq"));
+        assertEquals("select nextval('account_number_seq')",
+                AccountNumberGenerator.nextBlockQuery(new PostgreSQLDialect()));
+    }
+}
@@ -2,27 +2,35 @@ package com.zerobase.account.service;
 
 import com.zerobase.account.domain.Account;
 import com.zerobase.account.domain.AccountUser;
+import com.zerobase.account.domain.Transaction;
 import com.zerobase.account.dto.AccountDto;
+import com.zerobase.account.dto.AccountView;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.repository.AccountRepository;
 import com.zerobase.account.repository.AccountUserRepository;
 import com.zerobase.account.type.AccountStatus;
 import com.zerobase.account.type.ErrorCode;
+import com.zerobase.account.type.TransactionType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class) // @SpringBootTest 대신 mockito 사용
@@ -33,6 +41,18 @@ class AccountServiceTest {
     @Mock
     AccountUserRepository accountUserRepository;
 
+    @Mock
+    AccountNumberGenerator accountNumberGenerator;
+
+    @Spy
+    AccountListCache accountListCache = new AccountListCache(100, 60_000);
+
+    @Mock
+    LedgerBalanceService ledgerBalanceService;
+
+    @Mock
+    TransactionIdGenerator transactionIdGenerator;
+
     @InjectMocks // 위에서 생성한 가짜 객체를 해당 객체에 주입
     AccountService accountService;
 
@@ -45,10 +65,8 @@ class AccountServiceTest {
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(accountUser));
 
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(Account.builder()
-                        .accountNumber("1000000012")
-                        .build()));
+        given(accountNumberGenerator.next())
+                .willReturn("1000000013");
 
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
@@ -56,7 +74,7 @@ class AccountServiceTest {
                         .accountNumber("1000000015")
                         .build());
 
-        // 가장 마지막 계좌를 가져와서 1 증가 시켰는지 어떻게 증명할 수 있을까?
+        // 발급기가 준 계좌번호로 저장했는지 어떻게 증명할 수 있을까?
         ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
 
         // when
@@ -71,38 +89,6 @@ class AccountServiceTest {
         assertEquals("1000000013", captor.getValue().getAccountNumber()); // captor로 캡쳐한 값 확인
     }
 
-    @Test
-    @DisplayName("첫 계좌 생성")
-    void createFirstAccount() {
-        // given
-        AccountUser accountUser = getAccountUser();
-
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(accountUser));
-
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.empty());
-
-        given(accountRepository.save(any()))
-                .willReturn(Account.builder()
-                        .accountUser(accountUser)
-                        .accountNumber("1000000015")
-                        .build());
-
-        // captor
-        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
-
-        // when
-        AccountDto accountDto =
-                accountService.createAccount(15L, 1000L);
-
-        // then
-        verify(accountRepository, times(1)).save(captor.capture());
-
-        assertEquals(1L, accountDto.getUserId());
-        assertEquals("1000000000", captor.getValue().getAccountNumber());
-    }
-
     @Test
     @DisplayName("해당 유저 없음 - 계좌 생성 실패")
     void createAccountUserNotFound() {
@@ -118,33 +104,6 @@ class AccountServiceTest {
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
 
-    @Test
-    @DisplayName("이미 있는 계좌 번호 - 계좌 생성 실패")
-    void createAccountAccountNumberAlreadyExist() {
-        // given
-        AccountUser accountUser = getAccountUser();
-
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(accountUser));
-
-        Account account = Account.builder()
-                .accountNumber("1000000012")
-                .build();
-
-        given(accountRepository.findFirstByOrderByIdDesc())
-                .willReturn(Optional.of(account));
-
-        given(accountRepository.findByAccountNumber(any()))
-                .willReturn(Optional.of(account));
-
-        // when
-        AccountException exception = assertThrows(AccountException.class,
-                () -> accountService.createAccount(1L, 1000L));
-
-        // then
-        assertEquals(ErrorCode.ACCOUNT_ALREADY_EXIST, exception.getErrorCode());
-    }
-
     @Test
     @DisplayName("유저 당 최대 계좌는 10개 - 계좌 생성 실패")
     void createAccountMaxAccountIs10() {
@@ -191,6 +150,70 @@ class AccountServiceTest {
         assertNotEquals(null, account.getUnRegisteredAt());
     }
 
+    @Test
+    @DisplayName("ledger 모드 계좌 해지 - 다음 순번으로 해지 거래를 append")
+    void successDeleteAccountLedgerMode() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        Account account = Account.builder()
+                .accountUser(accountUser)
+                .accountNumber("1000000000")
+                .balance(5000L) // 스냅샷 이후 거래로 잔액 0
+                .build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(accountUser));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(ledgerBalanceService.isEnabled())
+                .willReturn(true);
+        given(ledgerBalanceService.getBalance(account))
+                .willReturn(new LedgerBalanceService.LedgerBalance(0L, 7L));
+        given(transactionIdGenerator.generate())
+                .willReturn("transactionId");
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        accountService.deleteAccount(1L, "1000000000");
+
+        // then
+        verify(ledgerBalanceService, times(1)).append(captor.capture());
+        assertEquals(TransactionType.CLOSE, captor.getValue().get(0).getTransactionType());
+        assertEquals(8L, captor.getValue().get(0).getLedgerSeq());
+        assertEquals(0L, captor.getValue().get(0).getBalanceSnapshot());
+        assertEquals(AccountStatus.UNREGISTERED, account.getAccountStatus());
+    }
+
+    @Test
+    @DisplayName("ledger 모드 계좌 해지 - 같은 순번에 잔액 사용/취소가 먼저 append 된 경우")
+    void deleteAccountLedgerSeqConflict() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        Account account = Account.builder()
+                .accountUser(accountUser)
+                .accountNumber("1000000000")
+                .balance(0L)
+                .build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(accountUser));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(ledgerBalanceService.isEnabled())
+                .willReturn(true);
+        given(ledgerBalanceService.getBalance(account))
+                .willReturn(new LedgerBalanceService.LedgerBalance(0L, 7L));
+        willThrow(new OptimisticLockingFailureException("Ledger sequence conflict"))
+                .given(ledgerBalanceService).append(anyList());
+
+        // when
+        // then
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> accountService.deleteAccount(1L, "1000000000"));
+        verify(accountListCache, times(0)).evictAfterCommit(anyLong());
+    }
+
     @Test
     @DisplayName("해당 유저 없음 - 계좌 해지 실패")
     void deleteAccountUserNotFound() {
@@ -301,14 +324,67 @@ class AccountServiceTest {
         given(accountUserRepository.findById(anyLong()))
                 .willReturn(Optional.of(accountUser));
 
-        given(accountRepository.findByAccountUser(accountUser))
-                .willReturn(getAccounts(accountUser));
+        given(accountRepository.findViewsByAccountUserId(1L))
+                .willReturn(getAccountViews());
 
         // when
         List<AccountDto> accountDtos = accountService.getAccountsByUserId(1L);
 
         // then
         assertEquals(3, accountDtos.size());
+        assertEquals("1000000001", accountDtos.get(1).getAccountNumber());
+        assertEquals(100L, accountDtos.get(1).getBalance());
+    }
+
+    @Test
+    @DisplayName("ledger 모드 계좌 조회 - 스냅샷 이후 거래까지 반영한 잔액")
+    void getAccountsByUserIdLedgerMode() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(accountUser));
+
+        given(accountRepository.findViewsByAccountUserId(1L))
+                .willReturn(List.of(getAccountView("1000000000", 10000L)));
+        given(ledgerBalanceService.isEnabled())
+                .willReturn(true);
+        given(ledgerBalanceService.getBalance(7L, 10000L, null))
+                .willReturn(new LedgerBalanceService.LedgerBalance(4000L, 3L));
+
+        // when
+        List<AccountDto> accountDtos = accountService.getAccountsByUserId(1L);
+
+        // then
+        assertEquals(4000L, accountDtos.get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("계좌 조회 - 두 번째 조회는 캐시, 해지 후에는 다시 조회")
+    void getAccountsByUserIdCached() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(accountUser));
+
+        given(accountRepository.findViewsByAccountUserId(1L))
+                .willReturn(getAccountViews());
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder()
+                        .accountUser(accountUser)
+                        .accountNumber("1000000000")
+                        .balance(0L)
+                        .build()));
+
+        // when
+        accountService.getAccountsByUserId(1L);
+        accountService.getAccountsByUserId(1L);
+        accountService.deleteAccount(1L, "1000000000");
+        accountService.getAccountsByUserId(1L);
+
+        // then
+        verify(accountRepository, times(2)).findViewsByAccountUserId(1L);
+        verify(accountListCache, times(1)).evictAfterCommit(1L);
     }
 
     @Test
@@ -326,17 +402,19 @@ class AccountServiceTest {
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
 
-    private static List<Account> getAccounts(AccountUser accountUser) {
+    private static List<AccountView> getAccountViews() {
         return List.of(
-                Account.builder().accountUser(accountUser).balance(10L)
-                        .accountNumber("1000000000").build(),
-                Account.builder().accountUser(accountUser).balance(100L)
-                        .accountNumber("1000000001").build(),
-                Account.builder().accountUser(accountUser).balance(1000L)
-                        .accountNumber("1000000002").build()
+                getAccountView("1000000000", 10L),
+                getAccountView("1000000001", 100L),
+                getAccountView("1000000002", 1000L)
         );
     }
 
+    private static AccountView getAccountView(String accountNumber, Long balance) {
+        return new SpelAwareProxyProjectionFactory().createProjection(AccountView.class,
+                Map.of("id", 7L, "userId", 1L, "accountNumber", accountNumber, "balance", balance));
+    }
+
     private static AccountUser getAccountUser() {
         return AccountUser.builder()
                 .id(1L)
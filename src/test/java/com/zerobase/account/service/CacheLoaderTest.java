@@ -0,0 +1,74 @@
+package com.zerobase.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheLoaderTest {
+    AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    void loadOnCallerThread() {
+        // given
+        Thread caller = Thread.currentThread();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = CacheLoader.get(cache, 1L, () -> {
+            assertSame(caller, Thread.currentThread());
+            loads.incrementAndGet();
+            return "account";
+        });
+        String second = CacheLoader.get(cache, 1L, () -> "reloaded");
+
+        // then
+        assertEquals("account", first);
+        assertEquals("account", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidatedWhileLoading() {
+        // given
+        // when
+        String loaded = CacheLoader.get(cache, 1L, () -> {
+            cache.synchronous().invalidate(1L); // 조회 도중 계좌 변경
+            return "stale";
+        });
+
+        // then
+        assertEquals("stale", loaded);
+        assertNull(cache.synchronous().getIfPresent(1L));
+    }
+
+    @Test
+    void loaderFailed() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> CacheLoader.get(cache, 1L, () -> {
+                    throw new AccountException(ErrorCode.USER_NOT_FOUND);
+                }));
+
+        // then
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        assertEquals("account", CacheLoader.get(cache, 1L, () -> "account"));
+    }
+
+    @Test
+    void nullNotCached() {
+        // given
+        // when
+        String missing = CacheLoader.get(cache, 1L, () -> null);
+
+        // then
+        assertNull(missing);
+        assertNull(cache.synchronous().getIfPresent(1L));
+    }
+}
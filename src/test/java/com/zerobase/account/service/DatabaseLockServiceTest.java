@@ -0,0 +1,127 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.domain.Account;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.type.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseLockServiceTest {
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    TransactionStatus transactionStatus;
+
+    @InjectMocks
+    DatabaseLockService databaseLockService;
+
+    @Test
+    void successGetLockAndUnlock() {
+        // given
+        given(transactionManager.getTransaction(any()))
+                .willReturn(transactionStatus);
+
+        given(accountRepository.findForUpdateByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder().accountNumber("1234").build()));
+
+        // when
+        databaseLockService.lock("1234", 3000L);
+        databaseLockService.unlock("1234");
+
+        // then
+        verify(accountRepository, times(1)).findForUpdateByAccountNumber("1234");
+        verify(transactionManager, times(1)).commit(transactionStatus);
+    }
+
+    @Test
+    void failGetLock() {
+        // given
+        given(transactionManager.getTransaction(any()))
+                .willReturn(transactionStatus);
+
+        given(accountRepository.findForUpdateByAccountNumber(anyString()))
+                .willThrow(new CannotAcquireLockException("lock timeout"));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> databaseLockService.lock("1234", 3000L));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(transactionManager, times(1)).rollback(transactionStatus);
+    }
+
+    @Test
+    void failGetLockAccountNotFound() {
+        // given
+        given(transactionManager.getTransaction(any()))
+                .willReturn(transactionStatus);
+
+        given(accountRepository.findForUpdateByAccountNumber(anyString()))
+                .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> databaseLockService.lock("1234", 3000L));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
+        verify(transactionManager, times(1)).rollback(transactionStatus);
+        assertThrows(IllegalMonitorStateException.class,
+                () -> databaseLockService.unlock("1234"));
+    }
+
+    @Test
+    void rollbackIfRollbackOnly() {
+        // given
+        given(transactionManager.getTransaction(any()))
+                .willReturn(transactionStatus);
+
+        given(accountRepository.findForUpdateByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder().accountNumber("1234").build()));
+
+        given(transactionStatus.isRollbackOnly())
+                .willReturn(true);
+
+        // when
+        databaseLockService.lock("1234", 3000L);
+        databaseLockService.unlock("1234");
+
+        // then
+        verify(transactionManager, times(1)).rollback(transactionStatus);
+        verify(transactionManager, times(0)).commit(any());
+    }
+
+    @Test
+    void failUnlockNotLocked() {
+        // given
+        // when
+        // then
+        assertThrows(IllegalMonitorStateException.class,
+                () -> databaseLockService.unlock("1234"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.zerobase.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FailedTransactionRecorderTest {
+    @Mock
+    TransactionService transactionService;
+
+    FailedTransactionRecorder failedTransactionRecorder;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        failedTransactionRecorder.stop();
+    }
+
+    @Test
+    @DisplayName("실패 거래를 워커 스레드에서 기록")
+    void record() {
+        // given
+        failedTransactionRecorder = new FailedTransactionRecorder(transactionService, 10, 1);
+
+        // when
+        failedTransactionRecorder.recordUse("1000000000", 1000L);
+        failedTransactionRecorder.recordCancel("1000000000", 2000L);
+
+        // then
+        verify(transactionService, timeout(1000).times(1))
+                .saveFailedUseTransaction("1000000000", 1000L);
+        verify(transactionService, timeout(1000).times(1))
+                .saveFailedCancelTransaction("1000000000", 2000L);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기록을 버리고 dropped 증가")
+    void recordDropped() throws InterruptedException {
+        // given
+        failedTransactionRecorder = new FailedTransactionRecorder(transactionService, 1, 1);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        failedTransactionRecorder.bindTo(registry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).given(transactionService).saveFailedUseTransaction(anyString(), anyLong());
+
+        // when
+        failedTransactionRecorder.recordUse("1000000000", 1000L); // 워커가 처리 중
+        started.await(1, TimeUnit.SECONDS);
+        failedTransactionRecorder.recordUse("1000000000", 2000L); // 큐에 대기
+        failedTransactionRecorder.recordUse("1000000000", 3000L); // 버려짐
+        release.countDown();
+
+        // then
+        verify(transactionService, timeout(1000).times(2))
+                .saveFailedUseTransaction(anyString(), anyLong());
+        verify(transactionService, times(0))
+                .saveFailedUseTransaction("1000000000", 3000L);
+        assertEquals(1.0, registry.get("account.failed.transaction.dropped")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("기록 실패 - 워커는 다음 기록을 계속 처리")
+    void recordFailed() {
+        // given
+        failedTransactionRecorder = new FailedTransactionRecorder(transactionService, 10, 1);
+
+        willAnswer(invocation -> {
+            throw new IllegalStateException("db down");
+        }).willAnswer(invocation -> null)
+                .given(transactionService).saveFailedUseTransaction(anyString(), anyLong());
+
+        // when
+        failedTransactionRecorder.recordUse("1000000000", 1000L);
+        failedTransactionRecorder.recordUse("1000000000", 2000L);
+
+        // then
+        verify(transactionService, timeout(1000).times(1))
+                .saveFailedUseTransaction("1000000000", 2000L);
+    }
+}
@@ -0,0 +1,163 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.domain.Account;
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.LedgerHeadView;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.repository.TransactionRepository;
+import com.zerobase.account.service.LedgerBalanceService.LedgerBalance;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerBalanceServiceTest {
+    @Mock
+    TransactionRepository transactionRepository;
+
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    LedgerBalanceService ledgerBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerBalanceService = new LedgerBalanceService(transactionRepository, accountRepository,
+                transactionManager, "ledger", 2);
+    }
+
+    @Test
+    void balanceFromLatestTransaction() {
+        // given
+        given(transactionRepository.findFirstByAccountIdAndLedgerSeqNotNullOrderByLedgerSeqDesc(anyLong()))
+                .willReturn(Optional.of(Transaction.builder()
+                        .ledgerSeq(12L)
+                        .balanceSnapshot(7000L)
+                        .build()));
+
+        // when
+        LedgerBalance balance = ledgerBalanceService.getBalance(getAccount(10000L, 10L));
+
+        // then
+        assertEquals(new LedgerBalance(7000L, 12L), balance);
+    }
+
+    @Test
+    void balanceFromSnapshot() {
+        // given
+        given(transactionRepository.findFirstByAccountIdAndLedgerSeqNotNullOrderByLedgerSeqDesc(anyLong()))
+                .willReturn(Optional.empty());
+
+        // when
+        LedgerBalance balance = ledgerBalanceService.getBalance(getAccount(10000L, null));
+
+        // then
+        assertEquals(new LedgerBalance(10000L, 0L), balance);
+        assertEquals(new LedgerBalance(9000L, 1L), balance.apply(-1000L));
+    }
+
+    @Test
+    void appendConflict() {
+        // given
+        given(transactionRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("ux_transaction_account_id_ledger_seq"));
+
+        // when
+        // then
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> ledgerBalanceService.append(List.of(Transaction.builder().build())));
+    }
+
+    @Test
+    void appendConflictFromConstraintName() {
+        // given
+        given(transactionRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Unique index or primary key violation",
+                                new SQLException("23505"), "UX_TRANSACTION_ACCOUNT_ID_LEDGER_SEQ")));
+
+        // when
+        // then
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> ledgerBalanceService.append(List.of(Transaction.builder().build())));
+    }
+
+    @Test
+    void appendOtherConstraintViolation() {
+        // given
+        given(transactionRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Unique index or primary key violation",
+                                new SQLException("23505"), "UK_TRANSACTION_TRANSACTION_ID")));
+
+        // when
+        // then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> ledgerBalanceService.append(List.of(Transaction.builder().build())));
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 - 새 거래 id 범위를 chunk 로 나누어 새 거래가 있는 계좌만 갱신")
+    void updateSnapshotsInChunks() {
+        // given
+        given(transactionRepository.findMaxId())
+                .willReturn(5L);
+        given(transactionRepository.findLedgerHeads(0L, 2L))
+                .willReturn(List.of(getLedgerHead(1L, 2L, 8000L)));
+        given(transactionRepository.findLedgerHeads(2L, 4L))
+                .willReturn(List.of());
+        given(transactionRepository.findLedgerHeads(4L, 5L))
+                .willReturn(List.of(getLedgerHead(1L, 3L, 7000L), getLedgerHead(2L, 1L, 500L)));
+
+        // when
+        ledgerBalanceService.updateSnapshots();
+        ledgerBalanceService.updateSnapshots(); // 새 거래가 없으면 다시 훑지 않는다.
+
+        // then
+        verify(accountRepository, times(1)).updateLedgerSnapshot(1L, 8000L, 2L);
+        verify(accountRepository, times(1)).updateLedgerSnapshot(1L, 7000L, 3L);
+        verify(accountRepository, times(1)).updateLedgerSnapshot(2L, 500L, 1L);
+        verify(transactionRepository, times(3)).findLedgerHeads(anyLong(), anyLong());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    private static LedgerHeadView getLedgerHead(Long accountId, Long ledgerSeq, Long balanceSnapshot) {
+        return new SpelAwareProxyProjectionFactory().createProjection(LedgerHeadView.class,
+                Map.of("accountId", accountId,
+                        "ledgerSeq", ledgerSeq,
+                        "balanceSnapshot", balanceSnapshot));
+    }
+
+    private static Account getAccount(Long balance, Long snapshotSeq) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1000000000")
+                .balance(balance)
+                .snapshotSeq(snapshotSeq)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.TransactionRepository;
+import com.zerobase.account.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerWriterTest {
+    @Mock
+    TransactionRepository transactionRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    LedgerWriter ledgerWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ledgerWriter != null) {
+            ledgerWriter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("linger 시간 안에 들어온 거래 내역을 한 번에 저장")
+    void appendFlushesInOneBatch() throws Exception {
+        // given
+        ledgerWriter = new LedgerWriter(transactionRepository, transactionManager,
+                10, 100, 200);
+        ledgerWriter.start();
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        CompletableFuture<Transaction> first = ledgerWriter.append(getTransaction("1"));
+        CompletableFuture<Transaction> second = ledgerWriter.append(getTransaction("2"));
+        CompletableFuture<Transaction> third = ledgerWriter.append(getTransaction("3"));
+
+        // then
+        assertEquals("1", first.get(1, TimeUnit.SECONDS).getTransactionId());
+        assertEquals("2", second.get(1, TimeUnit.SECONDS).getTransactionId());
+        assertEquals("3", third.get(1, TimeUnit.SECONDS).getTransactionId());
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("batchSize 개가 모이면 linger 시간 전에 저장")
+    void appendFlushesWhenBatchIsFull() throws Exception {
+        // given
+        ledgerWriter = new LedgerWriter(transactionRepository, transactionManager,
+                10, 2, 10_000);
+        ledgerWriter.start();
+
+        // when
+        CompletableFuture<Transaction> first = ledgerWriter.append(getTransaction("1"));
+        CompletableFuture<Transaction> second = ledgerWriter.append(getTransaction("2"));
+
+        // then
+        assertNotNull(first.get(1, TimeUnit.SECONDS));
+        assertNotNull(second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 - 배치의 모든 호출자에게 실패 전달")
+    void appendFlushFailed() {
+        // given
+        ledgerWriter = new LedgerWriter(transactionRepository, transactionManager,
+                10, 100, 5);
+        ledgerWriter.start();
+
+        given(transactionRepository.saveAll(anyList()))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        CompletableFuture<Transaction> future = ledgerWriter.append(getTransaction("1"));
+
+        // then
+        assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("실패 거래 내역 append 실패 - writer 가 멈춘 경우")
+    void appendNotRunning() throws InterruptedException {
+        // given
+        ledgerWriter = new LedgerWriter(transactionRepository, transactionManager,
+                10, 100, 5);
+        ledgerWriter.start();
+        ledgerWriter.stop();
+
+        // when
+        CompletableFuture<Transaction> future = ledgerWriter.append(getTransaction("1"));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertEquals(ErrorCode.LEDGER_WRITE_FAILED,
+                ((AccountException) exception.getCause()).getErrorCode());
+        verify(transactionRepository, times(0)).saveAll(anyList());
+    }
+
+    private static Transaction getTransaction(String transactionId) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .amount(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalLockServiceTest {
+    LocalLockService localLockService = new LocalLockService(16, 5000L);
+
+    @Test
+    void successGetLock() {
+        // given
+        // when
+        // then
+        assertDoesNotThrow(() -> localLockService.lock("1234", 3000L));
+        assertDoesNotThrow(() -> localLockService.unlock("1234"));
+    }
+
+    @Test
+    void failGetLock() {
+        // given
+        // 다른 스레드가 락을 잡고 있는 상태
+        CompletableFuture.runAsync(() -> localLockService.lock("1234", 3000L)).join();
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> localLockService.lock("1234", 3000L));
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+    }
+
+    @Test
+    void getLockAfterUnlock() {
+        // given
+        localLockService.lock("1234", 3000L);
+        localLockService.unlock("1234");
+
+        // when
+        // then
+        assertDoesNotThrow(() -> CompletableFuture.runAsync(
+                () -> localLockService.lock("1234", 3000L)).join());
+    }
+
+    @Test
+    void getLockAfterLeaseExpired() {
+        // given
+        LocalLockService shortLeaseLockService = new LocalLockService(16, 100L);
+        CompletableFuture.runAsync(() -> shortLeaseLockService.lock("1234", 3000L)).join();
+
+        // when
+        // then
+        assertDoesNotThrow(() -> shortLeaseLockService.lock("1234", 3000L));
+    }
+
+    @Test
+    void failUnlockNotOwner() {
+        // given
+        CompletableFuture.runAsync(() -> localLockService.lock("1234", 3000L)).join();
+
+        // when
+        // then
+        assertThrows(IllegalMonitorStateException.class,
+                () -> localLockService.unlock("1234"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.zerobase.account.service;
 
+import com.zerobase.account.aop.AccountLock;
 import com.zerobase.account.dto.UseBalance;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.type.ErrorCode;
@@ -12,7 +13,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -24,6 +30,12 @@ class LockAopAspectTest {
     @Mock
     ProceedingJoinPoint proceedingJoinPoint;
 
+    @Mock
+    AccountLock accountLock;
+
+    @Mock
+    AccountMetrics accountMetrics;
+
     @InjectMocks
     LockAopAspect lockAopAspect;
 
@@ -33,14 +45,16 @@ class LockAopAspectTest {
         ArgumentCaptor<String> lockArgumentCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> unlockArgumentCaptor = ArgumentCaptor.forClass(String.class);
 
+        given(accountLock.tryLockTime()).willReturn(3000L);
+
         UseBalance.Request request =
                 new UseBalance.Request(123L, "1234", 1000L);
 
         // when
-        lockAopAspect.aroundMethod(proceedingJoinPoint, request);
+        lockAopAspect.aroundMethod(proceedingJoinPoint, accountLock, request);
 
         // then
-        verify(lockService, times(1)).lock(lockArgumentCaptor.capture());
+        verify(lockService, times(1)).lock(lockArgumentCaptor.capture(), eq(3000L));
         verify(lockService, times(1)).unlock(unlockArgumentCaptor.capture());
         assertEquals("1234", lockArgumentCaptor.getValue());
         assertEquals("1234", unlockArgumentCaptor.getValue());
@@ -52,6 +66,8 @@ class LockAopAspectTest {
         ArgumentCaptor<String> lockArgumentCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> unlockArgumentCaptor = ArgumentCaptor.forClass(String.class);
 
+        given(accountLock.tryLockTime()).willReturn(3000L);
+
         UseBalance.Request request =
                 new UseBalance.Request(123L, "54321", 1000L);
 
@@ -61,12 +77,33 @@ class LockAopAspectTest {
 
         // when
         assertThrows(AccountException.class, () ->
-                lockAopAspect.aroundMethod(proceedingJoinPoint, request));
+                lockAopAspect.aroundMethod(proceedingJoinPoint, accountLock, request));
 
         // then
-        verify(lockService, times(1)).lock(lockArgumentCaptor.capture());
+        verify(lockService, times(1)).lock(lockArgumentCaptor.capture(), eq(3000L));
         verify(lockService, times(1)).unlock(unlockArgumentCaptor.capture());
         assertEquals("54321", lockArgumentCaptor.getValue());
         assertEquals("54321", unlockArgumentCaptor.getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void lockFailureCounted() throws Throwable {
+        // given
+        given(accountLock.tryLockTime()).willReturn(3000L);
+        willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .given(lockService).lock(anyString(), anyLong());
+
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+
+        // when
+        assertThrows(AccountException.class, () ->
+                lockAopAspect.aroundMethod(proceedingJoinPoint, accountLock, request));
+
+        // then
+        verify(accountMetrics, times(1)).recordLockFailure();
+        verify(accountMetrics, never()).recordLockWait(anyLong());
+        verify(lockService, never()).unlock(anyString());
+        verify(proceedingJoinPoint, never()).proceed();
+    }
+}
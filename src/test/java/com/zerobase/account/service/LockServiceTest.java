@@ -13,6 +13,7 @@ import org.redisson.api.RedissonClient;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LockServiceTest {
@@ -23,6 +24,9 @@ class LockServiceTest {
     @Mock
     RLock rLock;
 
+    @Mock
+    AccountMetrics accountMetrics;
+
     @InjectMocks
     LockService lockService;
 
@@ -37,7 +41,7 @@ class LockServiceTest {
 
         // when
         // then
-        assertDoesNotThrow(() -> lockService.lock("1234"));
+        assertDoesNotThrow(() -> lockService.lock("1234", 3000L));
     }
 
     @Test
@@ -51,9 +55,24 @@ class LockServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> lockService.lock("1234"));
+                () -> lockService.lock("1234", 3000L));
 
         // then
         assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void redisErrorCounted() throws InterruptedException {
+        // given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+
+        given(rLock.tryLock(anyLong(), anyLong(), any()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when
+        // then
+        assertDoesNotThrow(() -> lockService.lock("1234", 3000L));
+        verify(accountMetrics).recordRedisError();
+    }
+}
@@ -0,0 +1,68 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryAspectTest {
+    @Mock
+    ProceedingJoinPoint proceedingJoinPoint;
+
+    OptimisticRetryAspect optimisticRetryAspect = new OptimisticRetryAspect(3, 0L);
+
+    @Test
+    void successAfterRetry() throws Throwable {
+        // given
+        given(proceedingJoinPoint.proceed())
+                .willThrow(new ObjectOptimisticLockingFailureException("Account", 1L))
+                .willReturn("result");
+
+        // when
+        Object result = optimisticRetryAspect.aroundMethod(proceedingJoinPoint);
+
+        // then
+        verify(proceedingJoinPoint, times(2)).proceed();
+        assertEquals("result", result);
+    }
+
+    @Test
+    void failAfterMaxAttempts() throws Throwable {
+        // given
+        given(proceedingJoinPoint.proceed())
+                .willThrow(new ObjectOptimisticLockingFailureException("Account", 1L));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> optimisticRetryAspect.aroundMethod(proceedingJoinPoint));
+
+        // then
+        verify(proceedingJoinPoint, times(3)).proceed();
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+    }
+
+    @Test
+    void notRetryAccountException() throws Throwable {
+        // given
+        given(proceedingJoinPoint.proceed())
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> optimisticRetryAspect.aroundMethod(proceedingJoinPoint));
+
+        // then
+        verify(proceedingJoinPoint, times(1)).proceed();
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,76 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLockServiceTest {
+    @Mock
+    RedissonClient redissonClient;
+
+    @Mock
+    RedissonReactiveClient redissonReactiveClient;
+
+    @Mock
+    RLockReactive rLockReactive;
+
+    ReactiveLockService reactiveLockService;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.reactive())
+                .willReturn(redissonReactiveClient);
+        given(redissonReactiveClient.getLock("ACLK:1234"))
+                .willReturn(rLockReactive);
+
+        reactiveLockService = new ReactiveLockService(redissonClient,
+                new AccountMetrics(new SimpleMeterRegistry(), "redis"), "redis");
+    }
+
+    @Test
+    void successGetLock() {
+        // given
+        given(rLockReactive.tryLock(anyLong(), anyLong(), any(), anyLong()))
+                .willReturn(Mono.just(true));
+        given(rLockReactive.unlock(anyLong()))
+                .willReturn(Mono.empty());
+
+        // when
+        Long lockId = reactiveLockService.lock("1234", 3000L).block();
+        reactiveLockService.unlock("1234", lockId).block();
+
+        // then
+        assertTrue(lockId < 0); // 스레드 ID 와 겹치지 않음
+        verify(rLockReactive).tryLock(eq(3000L), anyLong(), any(), eq(lockId));
+        verify(rLockReactive).unlock(lockId);
+    }
+
+    @Test
+    void failGetLock() {
+        // given
+        given(rLockReactive.tryLock(anyLong(), anyLong(), any(), anyLong()))
+                .willReturn(Mono.just(false));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> reactiveLockService.lock("1234", 3000L).block());
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,112 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.dto.AccountReconciliationView;
+import com.zerobase.account.dto.Reconciliation;
+import com.zerobase.account.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationServiceTest {
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    LedgerBalanceService ledgerBalanceService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new ReconciliationService(accountRepository,
+                ledgerBalanceService, transactionManager, 2, 2, 10);
+    }
+
+    @Test
+    @DisplayName("id 범위를 partitionSize 단위로 나누어 모든 계좌를 검사")
+    void reconcilePartitions() {
+        // given
+        given(accountRepository.findMinId()).willReturn(1L);
+        given(accountRepository.findMaxId()).willReturn(5L);
+        given(accountRepository.findReconciliationViews(1L, 2L))
+                .willReturn(List.of(getView(1L, 9000L, 10000L, -1000L, 9000L),
+                        getView(2L, 5000L, 5000L, 0L, 5000L)));
+        given(accountRepository.findReconciliationViews(3L, 4L))
+                .willReturn(List.of(getView(3L, 8000L, 10000L, -2000L, 8000L)));
+        given(accountRepository.findReconciliationViews(5L, 5L))
+                .willReturn(List.of());
+
+        // when
+        Reconciliation.Result result = reconciliationService.reconcile();
+
+        // then
+        verify(accountRepository).findReconciliationViews(1L, 2L);
+        verify(accountRepository).findReconciliationViews(3L, 4L);
+        verify(accountRepository).findReconciliationViews(5L, 5L);
+        assertEquals(3L, result.checkedAccounts());
+        assertEquals(0L, result.mismatchCount());
+    }
+
+    @Test
+    @DisplayName("락 없이 동시에 처리된 거래 - 잔액, 스냅샷 체인 불일치 보고")
+    void reconcileMismatch() {
+        // given
+        // 10000 에서 1000 씩 두 번 사용했지만 두 요청이 같은 잔액을 읽어 9000 으로 기록됨
+        given(accountRepository.findMinId()).willReturn(1L);
+        given(accountRepository.findMaxId()).willReturn(1L);
+        given(accountRepository.findReconciliationViews(1L, 1L))
+                .willReturn(List.of(getView(1L, 8000L, 10000L, -2000L, 9000L)));
+
+        // when
+        Reconciliation.Result result = reconciliationService.reconcile();
+
+        // then
+        assertEquals(2L, result.mismatchCount());
+        assertEquals(new Reconciliation.Mismatch(1L, "1000000001",
+                Reconciliation.Type.BALANCE, 9000L, 8000L), result.mismatches().get(0));
+        assertEquals(new Reconciliation.Mismatch(1L, "1000000001",
+                Reconciliation.Type.CHAIN, 8000L, 9000L), result.mismatches().get(1));
+    }
+
+    @Test
+    @DisplayName("계좌가 없으면 검사하지 않음")
+    void reconcileEmpty() {
+        // given
+        given(accountRepository.findMinId()).willReturn(null);
+        given(accountRepository.findMaxId()).willReturn(null);
+
+        // when
+        Reconciliation.Result result = reconciliationService.reconcile();
+
+        // then
+        assertEquals(Reconciliation.Result.EMPTY, result);
+    }
+
+    private static AccountReconciliationView getView(Long accountId, Long balance,
+                                                     Long openingBalance, Long deltaSum,
+                                                     Long latestSnapshot) {
+        return new SpelAwareProxyProjectionFactory().createProjection(AccountReconciliationView.class,
+                Map.of("accountId", accountId,
+                        "accountNumber", "100000000" + accountId,
+                        "balance", balance,
+                        "openingBalance", openingBalance,
+                        "deltaSum", deltaSum,
+                        "latestSnapshot", latestSnapshot));
+    }
+}
@@ -0,0 +1,151 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.controller.TransactionController;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.dto.UseBalanceBatch;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import com.zerobase.account.type.TransactionResultType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RequestMetricsAspectTest {
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    @Mock
+    Signature signature;
+
+    SimpleMeterRegistry registry;
+    RequestMetricsAspect requestMetricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        requestMetricsAspect = new RequestMetricsAspect(new AccountMetrics(registry, "redis"));
+
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getDeclaringType()).willReturn(TransactionController.class);
+    }
+
+    @Test
+    void recordExportAfterStreamWritten() throws Throwable {
+        // given
+        given(signature.getName()).willReturn("exportTransactions");
+        StreamingResponseBody body = outputStream -> outputStream.write("row\n".getBytes());
+        given(joinPoint.proceed()).willReturn(ResponseEntity.ok().body(body));
+
+        // when
+        ResponseEntity<?> entity = (ResponseEntity<?>) requestMetricsAspect.aroundEndpoint(joinPoint);
+
+        // then : 스트림을 쓰기 전에는 기록하지 않는다.
+        assertNull(registry.find("account.request").timer());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingResponseBody) entity.getBody()).writeTo(outputStream);
+        assertEquals("row\n", outputStream.toString());
+        assertEquals(1L, registry.get("account.request")
+                .tags("endpoint", "TransactionController.exportTransactions", "result", "S")
+                .timer().count());
+    }
+
+    @Test
+    void recordExportFailedWhileStreaming() throws Throwable {
+        // given
+        given(signature.getName()).willReturn("exportTransactions");
+        StreamingResponseBody body = outputStream -> {
+            throw new IOException("client aborted");
+        };
+        given(joinPoint.proceed()).willReturn(ResponseEntity.ok().body(body));
+
+        // when
+        ResponseEntity<?> entity = (ResponseEntity<?>) requestMetricsAspect.aroundEndpoint(joinPoint);
+
+        // then
+        assertThrows(IOException.class,
+                () -> ((StreamingResponseBody) entity.getBody()).writeTo(new ByteArrayOutputStream()));
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "F", "error", "INTERNAL_SERVER_ERROR").timer().count());
+    }
+
+    @Test
+    void recordUseBalanceBatchItems() throws Throwable {
+        // given
+        given(signature.getName()).willReturn("useBalanceBatch");
+        given(joinPoint.proceed()).willReturn(new UseBalanceBatch.Response(List.of(
+                UseBalanceBatch.Result.builder()
+                        .transactionResult(TransactionResultType.S)
+                        .build(),
+                UseBalanceBatch.Result.failed(new UseBalance.Request(1L, "1000000000", 1000L),
+                        ErrorCode.AMOUNT_EXCEED_BALANCE))));
+
+        // when
+        requestMetricsAspect.aroundEndpoint(joinPoint);
+
+        // then
+        assertEquals(1L, registry.get("account.request")
+                .tags("endpoint", "TransactionController.useBalanceBatch", "result", "S")
+                .timer().count());
+        assertEquals(1.0, registry.get("account.request.items")
+                .tags("result", "S", "error", "NONE").counter().count());
+        assertEquals(1.0, registry.get("account.request.items")
+                .tags("result", "F", "error", "AMOUNT_EXCEED_BALANCE").counter().count());
+    }
+
+    @Test
+    void recordMonoSuccessAndError() throws Throwable {
+        // given
+        given(signature.getName()).willReturn("useBalance");
+        given(joinPoint.proceed()).willReturn(Mono.just("ok"),
+                Mono.error(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE)));
+
+        // when
+        Mono<?> success = (Mono<?>) requestMetricsAspect.aroundEndpoint(joinPoint);
+        Mono<?> failure = (Mono<?>) requestMetricsAspect.aroundEndpoint(joinPoint);
+
+        // then : 구독해서 끝나기 전에는 기록하지 않는다.
+        assertNull(registry.find("account.request").timer());
+
+        success.block();
+        assertThrows(AccountException.class, failure::block);
+        assertEquals(1L, registry.get("account.request")
+                .tags("endpoint", "TransactionController.useBalance", "result", "S")
+                .timer().count());
+        assertEquals(1L, registry.get("account.request")
+                .tags("result", "F", "error", "AMOUNT_EXCEED_BALANCE").timer().count());
+    }
+
+    @Test
+    void recordMonoCancelled() throws Throwable {
+        // given
+        given(signature.getName()).willReturn("useBalance");
+        given(joinPoint.proceed()).willReturn(Mono.never());
+
+        // when
+        Mono<?> mono = (Mono<?>) requestMetricsAspect.aroundEndpoint(joinPoint);
+        mono.subscribe().dispose();
+
+        // then
+        assertEquals(1L, registry.get("account.request")
+                .tags("endpoint", "TransactionController.useBalance",
+                        "result", "F", "error", "CANCELLED")
+                .timer().count());
+    }
+}
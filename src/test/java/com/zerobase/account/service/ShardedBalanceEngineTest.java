@@ -0,0 +1,140 @@
+package com.zerobase.account.service;
+
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedBalanceEngineTest {
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ShardedBalanceEngine shardedBalanceEngine;
+
+    ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void setUp() {
+        shardedBalanceEngine = new ShardedBalanceEngine(transactionManager, 1, 100, 50);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        shardedBalanceEngine.stop();
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 작업은 shard 스레드 하나에서 실행")
+    void executeOnShardThread() throws Throwable {
+        // given
+        // when
+        Object threadName = shardedBalanceEngine.execute("1000000000", 3000L,
+                () -> Thread.currentThread().getName());
+
+        // then
+        assertEquals("balance-shard-0", threadName);
+    }
+
+    @Test
+    @DisplayName("대기 중에 쌓인 작업은 한 트랜잭션에서 커밋")
+    void executeInOneTransaction() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> blocking = submit(() -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return "first";
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        List<Future<Object>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String value = "queued" + i;
+            queued.add(submit(() -> value));
+        }
+        Thread.sleep(100); // 세 작업이 큐에 들어갈 때까지
+        release.countDown();
+
+        // then
+        assertEquals("first", blocking.get(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            assertEquals("queued" + i, queued.get(i).get(1, TimeUnit.SECONDS));
+        }
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("AccountException 은 호출자에게 그대로 전달")
+    void executeAccountException() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> shardedBalanceEngine.execute("1000000000", 3000L, () -> {
+                    throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+                }));
+
+        // then
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 실행되지 않은 작업은 취소")
+    void executeTimeout() throws Throwable {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        submit(() -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> shardedBalanceEngine.execute("1000000000", 50L, () -> {
+                    executed.set(true);
+                    return null;
+                }));
+        release.countDown();
+        shardedBalanceEngine.execute("1000000000", 3000L, () -> null); // 앞 작업이 모두 처리될 때까지
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        assertFalse(executed.get());
+    }
+
+    private Future<Object> submit(ShardedBalanceEngine.Work work) {
+        return callers.submit(() -> {
+            try {
+                return shardedBalanceEngine.execute("1000000000", 3000L, work);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
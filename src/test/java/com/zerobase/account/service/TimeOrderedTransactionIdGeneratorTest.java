@@ -0,0 +1,63 @@
+package com.zerobase.account.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedTransactionIdGeneratorTest {
+    TimeOrderedTransactionIdGenerator transactionIdGenerator =
+            new TimeOrderedTransactionIdGenerator(1L);
+
+    @Test
+    void generateMonotonic() {
+        // given
+        List<String> transactionIds = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            transactionIds.add(transactionIdGenerator.generate());
+        }
+
+        // then
+        for (int i = 1; i < transactionIds.size(); i++) {
+            assertEquals(13, transactionIds.get(i).length());
+            assertTrue(transactionIds.get(i - 1).compareTo(transactionIds.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void generateUniqueUnderConcurrency() {
+        // given
+        Set<String> transactionIds = ConcurrentHashMap.newKeySet();
+
+        // when
+        IntStream.range(0, 100_000).parallel()
+                .forEach(i -> transactionIds.add(transactionIdGenerator.generate()));
+
+        // then
+        assertEquals(100_000, transactionIds.size());
+    }
+
+    @Test
+    void differentNodeDifferentId() {
+        // given
+        TimeOrderedTransactionIdGenerator otherNodeGenerator =
+                new TimeOrderedTransactionIdGenerator(2L);
+
+        // when
+        // then
+        assertNotEquals(transactionIdGenerator.generate(), otherNodeGenerator.generate());
+    }
+
+    @Test
+    void failInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedTransactionIdGenerator(1024L));
+    }
+}
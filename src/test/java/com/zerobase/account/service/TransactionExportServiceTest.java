@@ -0,0 +1,145 @@
+package com.zerobase.account.service;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zerobase.account.domain.Account;
+import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.TransactionExport;
+import com.zerobase.account.exception.AccountException;
+import com.zerobase.account.repository.AccountRepository;
+import com.zerobase.account.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static com.zerobase.account.type.TransactionResultType.S;
+import static com.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 10, 13, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    TransactionRepository transactionRepository;
+
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = new TransactionExportService(transactionRepository,
+                accountRepository, entityManager,
+                JsonMapper.builder().findAndAddModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+                2);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더 다음에 거래 한 줄씩, clearInterval 건마다 영속성 컨텍스트 비움")
+    void exportCsv() throws IOException {
+        // given
+        given(transactionRepository.streamByTransactedAt(FROM, TO))
+                .willReturn(Stream.of(getTransaction("t1"), getTransaction("t2"), getTransaction("t3")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = transactionExportService.export(
+                new TransactionExport.Criteria(FROM, TO, null),
+                TransactionExport.Format.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3L, count);
+        assertEquals(4, lines.length);
+        assertEquals(TransactionExport.CSV_HEADER, lines[0]);
+        assertEquals("1000000000,USE,S,t1,1000,9000,2023-10-13T11:14:42", lines[1]);
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 계좌 지정 시 계좌별 스트림 사용")
+    void exportNdjson() throws IOException {
+        // given
+        given(transactionRepository.streamByAccountIdAndTransactedAt(1L, FROM, TO))
+                .willReturn(Stream.of(getTransaction("t1")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = transactionExportService.export(
+                new TransactionExport.Criteria(FROM, TO, 1L),
+                TransactionExport.Format.NDJSON, outputStream);
+
+        // then
+        String output = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals(1L, count);
+        assertTrue(output.endsWith("\n"));
+        assertTrue(output.contains("\"transactionId\":\"t1\""));
+        assertTrue(output.contains("\"transactedAt\":\"2023-10-13T11:14:42\""));
+    }
+
+    @Test
+    @DisplayName("기간이 잘못된 경우 - 내보내기 실패")
+    void getCriteriaInvalidRange() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionExportService.getCriteria(TO, FROM, null));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("해당 계좌 없음 - 내보내기 실패")
+    void getCriteriaAccountNotFound() {
+        // given
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionExportService.getCriteria(FROM, TO, "1000000000"));
+
+        // then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    private static Transaction getTransaction(String transactionId) {
+        return Transaction.builder()
+                .transactionType(USE)
+                .transactionResultType(S)
+                .account(Account.builder()
+                        .id(1L)
+                        .accountNumber("1000000000")
+                        .build())
+                .transactionId(transactionId)
+                .transactedAt(LocalDateTime.of(2023, 10, 13, 11, 14, 42))
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .build();
+    }
+}
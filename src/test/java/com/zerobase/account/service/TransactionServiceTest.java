@@ -3,7 +3,13 @@ package com.zerobase.account.service;
 import com.zerobase.account.domain.Account;
 import com.zerobase.account.domain.AccountUser;
 import com.zerobase.account.domain.Transaction;
+import com.zerobase.account.dto.CancelBalance;
 import com.zerobase.account.dto.TransactionDto;
+import com.zerobase.account.dto.TransactionHistory;
+import com.zerobase.account.dto.TransactionHistoryView;
+import com.zerobase.account.dto.TransactionView;
+import com.zerobase.account.dto.UseBalance;
+import com.zerobase.account.dto.UseBalanceBatch;
 import com.zerobase.account.exception.AccountException;
 import com.zerobase.account.repository.AccountRepository;
 import com.zerobase.account.repository.AccountUserRepository;
@@ -15,10 +21,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.zerobase.account.type.AccountStatus.IN_USE;
 import static com.zerobase.account.type.ErrorCode.*;
@@ -27,6 +39,7 @@ import static com.zerobase.account.type.TransactionResultType.S;
 import static com.zerobase.account.type.TransactionType.CANCEL;
 import static com.zerobase.account.type.TransactionType.USE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -44,6 +57,21 @@ class TransactionServiceTest {
     @Mock
     AccountRepository accountRepository;
 
+    @Mock
+    TransactionIdGenerator transactionIdGenerator;
+
+    @Spy
+    TransactionCache transactionCache = new TransactionCache(100, 60_000);
+
+    @Mock
+    AccountListCache accountListCache;
+
+    @Mock
+    LedgerWriter ledgerWriter;
+
+    @Mock
+    LedgerBalanceService ledgerBalanceService;
+
     @InjectMocks
     TransactionService transactionService;
 
@@ -52,10 +80,6 @@ class TransactionServiceTest {
     void useBalanceSuccess() {
         // given
         AccountUser accountUser = getAccountUser();
-
-        given(accountUserRepository.findById(anyLong()))
-                .willReturn(Optional.of(accountUser));
-
         Account account = getAccount(accountUser, 10000L);
 
         given(accountRepository.findByAccountNumber(anyString()))
@@ -76,7 +100,7 @@ class TransactionServiceTest {
 
         // when
         TransactionDto transactionDto =
-                transactionService.useBalance(1L, "1000000000", 1000L);
+                transactionService.useBalance(new UseBalance.Request(1L, "1000000000", 1000L));
 
         // then
         verify(transactionRepository, times(1)).save(captor.capture()); // save 할 때 값을 말함. 모킹으로 생성한 리턴값이 아님
@@ -96,7 +120,7 @@ class TransactionServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000000", 1000L));
+                () -> transactionService.validateUseBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
 
         // then
         assertEquals(USER_NOT_FOUND, exception.getErrorCode());
@@ -114,7 +138,7 @@ class TransactionServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000000", 1000L));
+                () -> transactionService.validateUseBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
 
         // then
         assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
@@ -136,7 +160,7 @@ class TransactionServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000000", 1000L));
+                () -> transactionService.validateUseBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
 
         // then
         assertEquals(USER_ACCOUNT_UN_MATCH, exception.getErrorCode());
@@ -160,7 +184,7 @@ class TransactionServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000000", 1000L));
+                () -> transactionService.validateUseBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
 
         // then
         assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
@@ -181,10 +205,69 @@ class TransactionServiceTest {
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.useBalance(1L, "1000000000", 1000L));
+                () -> transactionService.validateUseBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
+
+        // then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("락 안에서 잔액 재확인 - 검증 이후 잔액이 줄어든 경우 잔액 사용 실패")
+    void useBalanceExceedAmountInLock() {
+        // given
+        Account account = getAccount(getAccountUser(), 100L);
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.useBalance(new UseBalance.Request(1L, "1000000000", 1000L)));
 
         // then
         assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        assertEquals(100L, account.getBalance());
+        verify(accountUserRepository, times(0)).findById(anyLong());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 일괄 사용 - 잔액 초과 요청은 실패 거래로 기록")
+    void useBalanceBatch() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        Account account = getAccount(accountUser, 10000L);
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(accountUser));
+
+        given(transactionIdGenerator.generate())
+                .willReturn("transactionId1", "transactionId2", "transactionId3");
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        List<TransactionDto> transactionDtos = transactionService.useBalanceBatch(
+                new UseBalanceBatch.AccountItems("1000000000", List.of(
+                        new UseBalance.Request(1L, "1000000000", 3000L),
+                        new UseBalance.Request(1L, "1000000000", 8000L),
+                        new UseBalance.Request(1L, "1000000000", 7000L))));
+
+        // then
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        verify(transactionRepository, times(0)).save(any());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(0L, account.getBalance());
+
+        assertEquals(S, transactionDtos.get(0).getTransactionResultType());
+        assertEquals(7000L, transactionDtos.get(0).getBalanceSnapshot());
+        assertEquals(F, transactionDtos.get(1).getTransactionResultType());
+        assertEquals(AMOUNT_EXCEED_BALANCE, transactionDtos.get(1).getErrorCode());
+        assertEquals(S, transactionDtos.get(2).getTransactionResultType());
+        assertEquals(0L, transactionDtos.get(2).getBalanceSnapshot());
     }
 
     @Test
@@ -196,8 +279,8 @@ class TransactionServiceTest {
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
 
-        given(transactionRepository.save(any()))
-                .willReturn(Transaction.builder().build());
+        given(ledgerWriter.append(any()))
+                .willReturn(CompletableFuture.completedFuture(Transaction.builder().build()));
 
         ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
 
@@ -205,7 +288,7 @@ class TransactionServiceTest {
         transactionService.saveFailedUseTransaction("1000000000", 1000L);
 
         // then
-        verify(transactionRepository, times(1)).save(captor.capture());
+        verify(ledgerWriter, times(1)).append(captor.capture());
         assertEquals(10000L, captor.getValue().getBalanceSnapshot());
         assertEquals(F, captor.getValue().getTransactionResultType());
         assertEquals(1000L, captor.getValue().getAmount());
@@ -219,8 +302,8 @@ class TransactionServiceTest {
         Account account = getAccount(accountUser, 9000L);
         Transaction transaction = getTransaction(account);
 
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(transaction));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
 
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
@@ -232,8 +315,7 @@ class TransactionServiceTest {
 
         // when
         TransactionDto transactionDto =
-                transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L);
+                transactionService.cancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L));
 
         // then
         verify(transactionRepository, times(1)).save(captor.capture());
@@ -244,20 +326,66 @@ class TransactionServiceTest {
         assertEquals(1000L, transactionDto.getAmount());
     }
 
+    @Test
+    @DisplayName("ledger 모드 잔액 사용 취소 - 계좌를 고치지 않고 다음 순번으로 append")
+    void cancelBalanceLedgerMode() {
+        // given
+        Account account = getAccount(getAccountUser(), 9000L);
+
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(ledgerBalanceService.isEnabled())
+                .willReturn(true);
+        given(ledgerBalanceService.getBalance(account))
+                .willReturn(new LedgerBalanceService.LedgerBalance(0L, 3L));
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        transactionService.cancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L));
+
+        // then
+        verify(ledgerBalanceService, times(1)).append(captor.capture());
+        assertEquals(4L, captor.getValue().get(0).getLedgerSeq());
+        assertEquals(1000L, captor.getValue().get(0).getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("해지된 계좌 - 잔액 사용 취소 실패")
+    void cancelBalanceAccountUnregistered() {
+        // given
+        Account account = getAccount(getAccountUser(), 0L);
+        account.changeAccountForDelete();
+
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
+
+        // then
+        verify(transactionRepository, times(0)).save(any());
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("해당 계좌 없음 - 잔액 사용 취소 실패")
     void cancelBalanceAccountNotFound() {
         // given
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(Transaction.builder().build()));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
 
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.empty());
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L));
+                () -> transactionService.validateCancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
 
         // then
         assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
@@ -267,13 +395,12 @@ class TransactionServiceTest {
     @DisplayName("해당 거래 없음 - 잔액 사용 취소 실패")
     void cancelBalanceTransactionNotFound() {
         // given
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findViewByTransactionId(anyString()))
                 .willReturn(Optional.empty());
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L));
+                () -> transactionService.validateCancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
 
         // then
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
@@ -286,18 +413,16 @@ class TransactionServiceTest {
         AccountUser accountUser = getAccountUser();
         Account account = getAccount(accountUser, 9000L);
 
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(Transaction.builder()
-                        .account(Account.builder().id(2L).build())
-                        .build()));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView("2000000000",
+                        1000L, LocalDateTime.now())));
 
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L));
+                () -> transactionService.validateCancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
 
         // then
         assertEquals(TRANSACTION_ACCOUNT_UN_MATCH, exception.getErrorCode());
@@ -310,20 +435,16 @@ class TransactionServiceTest {
         AccountUser accountUser = getAccountUser();
         Account account = getAccount(accountUser, 9000L);
 
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(Transaction.builder()
-                        .account(account)
-                        .transactionId("transactionId")
-                        .amount(2000L)
-                        .build()));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView("1000000000",
+                        2000L, LocalDateTime.now())));
 
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L));
+                () -> transactionService.validateCancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
 
         // then
         assertEquals(CANCEL_MUST_FULLY, exception.getErrorCode());
@@ -336,21 +457,16 @@ class TransactionServiceTest {
         AccountUser accountUser = getAccountUser();
         Account account = getAccount(accountUser, 9000L);
 
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(Transaction.builder()
-                        .account(account)
-                        .transactionId("transactionId")
-                        .transactedAt(LocalDateTime.now().minusYears(1).minusDays(1))
-                        .amount(1000L)
-                        .build()));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView("1000000000",
+                        1000L, LocalDateTime.now().minusYears(1).minusDays(1))));
 
         given(accountRepository.findByAccountNumber(anyString()))
                 .willReturn(Optional.of(account));
 
         // when
         AccountException exception = assertThrows(AccountException.class,
-                () -> transactionService.cancelBalance("transactionId",
-                        "1000000000", 1000L));
+                () -> transactionService.validateCancelBalance(new CancelBalance.Request("transactionId", "1000000000", 1000L)));
 
         // then
         assertEquals(TOO_OLD_ORDER_TO_CANCEL, exception.getErrorCode());
@@ -360,12 +476,8 @@ class TransactionServiceTest {
     @DisplayName("거래 조회")
     void queryTransaction() {
         // given
-        AccountUser accountUser = getAccountUser();
-        Account account = getAccount(accountUser, 9000L);
-        Transaction transaction = getTransaction(account);
-
-        given(transactionRepository.findByTransactionId(anyString()))
-                .willReturn(Optional.of(transaction));
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
 
         // when
         TransactionDto transactionDto =
@@ -378,11 +490,78 @@ class TransactionServiceTest {
         assertEquals("transactionId", transactionDto.getTransactionId());
     }
 
+    @Test
+    @DisplayName("거래 조회 - 두 번째 조회는 캐시에서 응답")
+    void queryTransactionCached() {
+        // given
+        given(transactionRepository.findViewByTransactionId(anyString()))
+                .willReturn(Optional.of(getTransactionView()));
+
+        // when
+        transactionService.queryTransaction("transactionId");
+        TransactionDto transactionDto =
+                transactionService.queryTransaction("transactionId");
+
+        // then
+        verify(transactionRepository, times(1)).findViewByTransactionId("transactionId");
+        assertEquals("transactionId", transactionDto.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("ledger 모드 잔액 사용 - 계좌를 고치지 않고 다음 순번으로 append")
+    void useBalanceLedgerMode() {
+        // given
+        Account account = getAccount(getAccountUser(), 10000L);
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(ledgerBalanceService.isEnabled())
+                .willReturn(true);
+        given(ledgerBalanceService.getBalance(account))
+                .willReturn(new LedgerBalanceService.LedgerBalance(5000L, 7L));
+
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        TransactionDto transactionDto = transactionService.useBalance(
+                new UseBalance.Request(1L, "1000000000", 1000L));
+
+        // then
+        verify(ledgerBalanceService, times(1)).append(captor.capture());
+        verify(transactionRepository, times(0)).save(any());
+        assertEquals(8L, captor.getValue().get(0).getLedgerSeq());
+        assertEquals(4000L, captor.getValue().get(0).getBalanceSnapshot());
+        assertEquals(4000L, transactionDto.getBalanceSnapshot());
+        assertEquals(10000L, account.getBalance()); // 스냅샷은 그대로
+    }
+
+    @Test
+    @DisplayName("잔액 사용 성공 시 거래 조회 캐시에 저장")
+    void useBalanceCachesTransaction() {
+        // given
+        AccountUser accountUser = getAccountUser();
+        Account account = getAccount(accountUser, 10000L);
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+                .willReturn(getTransaction(account));
+
+        // when
+        transactionService.useBalance(new UseBalance.Request(1L, "1000000000", 1000L));
+        TransactionDto transactionDto =
+                transactionService.queryTransaction("transactionId");
+
+        // then
+        verify(transactionRepository, times(0)).findViewByTransactionId(anyString());
+        assertEquals(1000L, transactionDto.getAmount());
+    }
+
     @Test
     @DisplayName("원 거래 없음 - 거래 조회 실패")
     void queryTransactionTransactionNotFound() {
         // given
-        given(transactionRepository.findByTransactionId(anyString()))
+        given(transactionRepository.findViewByTransactionId(anyString()))
                 .willReturn(Optional.empty());
 
         // when
@@ -393,6 +572,67 @@ class TransactionServiceTest {
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("거래 내역 조회 - size + 1 건을 읽어 다음 페이지 커서 생성")
+    void getTransactionHistory() {
+        // given
+        LocalDateTime transactedAt = LocalDateTime.of(2023, 10, 13, 11, 14, 42);
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(getAccount(getAccountUser(), 10000L)));
+        given(transactionRepository.findHistory(any(), isNull(), eq(S), any()))
+                .willReturn(List.of(
+                        getTransactionHistoryView(3L, transactedAt),
+                        getTransactionHistoryView(2L, transactedAt),
+                        getTransactionHistoryView(1L, transactedAt.minusSeconds(1))));
+
+        // when
+        TransactionHistory.Response response = transactionService.getTransactionHistory(
+                "1000000000", null, S, null, 2);
+
+        // then
+        verify(transactionRepository).findHistory(any(), isNull(), eq(S), eq(PageRequest.of(0, 3)));
+        assertEquals(2, response.getTransactions().size());
+        assertEquals(new TransactionHistory.Cursor(transactedAt, 2L),
+                TransactionHistory.Cursor.decode(response.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 커서 다음부터 조회, 마지막 페이지는 커서 없음")
+    void getTransactionHistoryAfterCursor() {
+        // given
+        LocalDateTime transactedAt = LocalDateTime.of(2023, 10, 13, 11, 14, 42);
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(getAccount(getAccountUser(), 10000L)));
+        given(transactionRepository.findHistoryAfter(any(), eq(transactedAt), eq(2L),
+                isNull(), isNull(), any()))
+                .willReturn(List.of(getTransactionHistoryView(1L, transactedAt.minusSeconds(1))));
+
+        // when
+        TransactionHistory.Response response = transactionService.getTransactionHistory(
+                "1000000000", null, null,
+                new TransactionHistory.Cursor(transactedAt, 2L).encode(), 2);
+
+        // then
+        assertEquals(1, response.getTransactions().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - 거래 내역 조회 실패")
+    void getTransactionHistoryInvalidCursor() {
+        // given
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(getAccount(getAccountUser(), 10000L)));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> transactionService.getTransactionHistory(
+                        "1000000000", null, null, "invalid", 20));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
     private static AccountUser getAccountUser() {
         return AccountUser.builder()
                 .id(1L)
@@ -420,4 +660,31 @@ class TransactionServiceTest {
                 .balanceSnapshot(9000L)
                 .build();
     }
-}
\ No newline at end of file
+
+    private static TransactionView getTransactionView() {
+        return getTransactionView("1000000000", 1000L, LocalDateTime.now());
+    }
+
+    private static TransactionView getTransactionView(String accountNumber, Long amount,
+                                                      LocalDateTime transactedAt) {
+        return new SpelAwareProxyProjectionFactory().createProjection(TransactionView.class,
+                Map.of("accountNumber", accountNumber,
+                        "transactionType", USE,
+                        "transactionResultType", S,
+                        "transactionId", "transactionId",
+                        "transactedAt", transactedAt,
+                        "amount", amount,
+                        "balanceSnapshot", 9000L));
+    }
+
+    private static TransactionHistoryView getTransactionHistoryView(Long id, LocalDateTime transactedAt) {
+        return new SpelAwareProxyProjectionFactory().createProjection(TransactionHistoryView.class,
+                Map.of("id", id,
+                        "transactionType", USE,
+                        "transactionResultType", S,
+                        "transactionId", "transactionId" + id,
+                        "transactedAt", transactedAt,
+                        "amount", 1000L,
+                        "balanceSnapshot", 9000L));
+    }
+}